@@ -4,7 +4,10 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.resolveit.resloveitbackend.enums.ComplaintPriority;
 import com.resolveit.resloveitbackend.enums.ComplaintStatus;
 
+import com.resolveit.resloveitbackend.id.BlockId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.List;
 import com.resolveit.resloveitbackend.Model.ComplaintReply;
@@ -12,13 +15,20 @@ import com.resolveit.resloveitbackend.Model.ComplaintReply;
 
 @Entity
 @Table(name = "complaints")
+@DynamicUpdate // UPDATEs list only dirty columns, so the TEXT description is not rewritten on status changes
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Complaint {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled table generator: ids are handed out in blocks so inserts can be JDBC-batched
+    @BlockId("complaints")
     private Long id;
 
+    // Optimistic lock; bumped by every write, including the targeted JPQL/JDBC updates
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     // ✅ NEW: Government reference number format (GRV-YYYYMMDD-XXXXX)
     @Column(name = "reference_number", unique = true, nullable = false)
     private String referenceNumber;
@@ -78,11 +88,14 @@ public class Complaint {
     private User user;
 
     // Attachments (simple list of file names/URLs)
+    // Batch-fetched: list endpoints map every complaint, which would otherwise cost one query per row
     @ElementCollection
+    @BatchSize(size = 50)
     private List<String> attachments;
 
     // Replies (public conversation between citizen and authority)
     @OneToMany(mappedBy = "complaint", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<ComplaintReply> replies;
 
     // Status History (track all status changes)
@@ -96,6 +109,8 @@ public class Complaint {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+
     public String getReferenceNumber() { return referenceNumber; }
     public void setReferenceNumber(String referenceNumber) { this.referenceNumber = referenceNumber; }
 
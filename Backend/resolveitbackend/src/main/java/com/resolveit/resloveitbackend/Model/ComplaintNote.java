@@ -1,5 +1,8 @@
 package com.resolveit.resloveitbackend.Model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.resolveit.resloveitbackend.id.BlockId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -7,7 +10,7 @@ import java.time.LocalDateTime;
 @Table(name = "complaint_notes")
 public class ComplaintNote {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId("complaint_notes")
     private Long id;
 
     @Column(columnDefinition = "TEXT")
@@ -21,6 +24,7 @@ public class ComplaintNote {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "complaint_id")
+    @JsonIgnore
     private Complaint complaint;
 
     public ComplaintNote() {}
@@ -43,4 +47,7 @@ public class ComplaintNote {
     public void setPrivate(boolean aPrivate) { isPrivate = aPrivate; }
     public Complaint getComplaint() { return complaint; }
     public void setComplaint(Complaint complaint) { this.complaint = complaint; }
+
+    @JsonProperty("complaintId")
+    public Long getComplaintId() { return complaint != null ? complaint.getId() : null; }
 }
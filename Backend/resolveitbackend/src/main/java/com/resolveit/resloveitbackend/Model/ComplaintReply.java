@@ -1,12 +1,15 @@
 package com.resolveit.resloveitbackend.Model;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "complaint_replies")
 public class ComplaintReply {
+    // Auto-increment rather than pooled blocks: clients resume threads with ?after=<id>, which needs
+    // ids to grow in commit order within a thread (addReply serializes on the complaint row for that)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,7 +25,7 @@ public class ComplaintReply {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "complaint_id")
-    @JsonIgnoreProperties({"replies", "notes", "attachments", "user", "hibernateLazyInitializer", "handler"})
+    @JsonIgnore
     private Complaint complaint;
 
     public ComplaintReply() {}
@@ -45,4 +48,8 @@ public class ComplaintReply {
     public void setAdminReply(boolean adminReply) { isAdminReply = adminReply; }
     public Complaint getComplaint() { return complaint; }
     public void setComplaint(Complaint complaint) { this.complaint = complaint; }
+
+    // Serialized instead of the complaint itself; reading the id does not initialize a lazy proxy
+    @JsonProperty("complaintId")
+    public Long getComplaintId() { return complaint != null ? complaint.getId() : null; }
 }
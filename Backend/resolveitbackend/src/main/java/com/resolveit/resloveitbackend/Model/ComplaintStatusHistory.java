@@ -3,6 +3,7 @@ package com.resolveit.resloveitbackend.Model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.resolveit.resloveitbackend.enums.ComplaintStatus;
 
+import com.resolveit.resloveitbackend.id.BlockId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 public class ComplaintStatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId("complaint_status_history")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
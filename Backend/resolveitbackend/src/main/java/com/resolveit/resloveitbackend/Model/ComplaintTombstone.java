@@ -0,0 +1,41 @@
+package com.resolveit.resloveitbackend.Model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Records that a complaint left someone's list, so that user's next delta sync can drop it: an
+ * officer's on reassignment (written by the service), every list on deletion (V11 trigger, audience
+ * "*" for the admin list). Kept for app.sync.tombstone-retention-hours.
+ */
+@Entity
+@Table(name = "complaint_tombstones")
+public class ComplaintTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "complaint_id", nullable = false)
+    private Long complaintId;
+
+    // Email of the user whose view lost the complaint, or "*" for the admin list
+    @Column(name = "audience", nullable = false)
+    private String audience;
+
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+
+    public ComplaintTombstone() {}
+
+    public ComplaintTombstone(Long complaintId, String audience, LocalDateTime removedAt) {
+        this.complaintId = complaintId;
+        this.audience = audience;
+        this.removedAt = removedAt;
+    }
+
+    public Long getId() { return id; }
+    public Long getComplaintId() { return complaintId; }
+    public String getAudience() { return audience; }
+    public LocalDateTime getRemovedAt() { return removedAt; }
+}
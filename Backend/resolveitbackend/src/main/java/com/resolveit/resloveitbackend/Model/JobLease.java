@@ -0,0 +1,59 @@
+package com.resolveit.resloveitbackend.Model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One row per cluster job (or job partition). The node whose ownerId is set and whose
+ * leaseUntil is in the future is the only one allowed to run the job. A released row has no
+ * owner and keeps leaseUntil at the next due time, so no node takes it before then. The fencing token
+ * is bumped on every acquisition so stale owners can be detected after a lease is lost.
+ */
+@Entity
+@Table(name = "job_leases")
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "last_duration_ms")
+    private Long lastDurationMs;
+
+    public JobLease() {}
+
+    public JobLease(String jobName, LocalDateTime leaseUntil) {
+        this.jobName = jobName;
+        this.leaseUntil = leaseUntil;
+        this.fencingToken = 0;
+    }
+
+    public String getJobName() { return jobName; }
+    public String getOwnerId() { return ownerId; }
+    public void setOwnerId(String ownerId) { this.ownerId = ownerId; }
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(LocalDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+    public long getFencingToken() { return fencingToken; }
+    public LocalDateTime getHeartbeatAt() { return heartbeatAt; }
+    public LocalDateTime getLastStartedAt() { return lastStartedAt; }
+    public LocalDateTime getLastCompletedAt() { return lastCompletedAt; }
+    public Long getLastDurationMs() { return lastDurationMs; }
+}
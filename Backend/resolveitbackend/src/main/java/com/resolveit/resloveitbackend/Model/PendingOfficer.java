@@ -2,8 +2,12 @@ package com.resolveit.resloveitbackend.Model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pending_officers")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,65 @@
+package com.resolveit.resloveitbackend.Model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One issued refresh token. Only an HMAC of the token is stored. Each refresh marks the row used and
+ * issues a successor in the same family; presenting a used token again revokes the whole family.
+ * The identity columns are copied at login so a refresh never has to touch users or officers.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Shared by a login and every token rotated from it
+    @Column(name = "family", nullable = false, length = 36)
+    private String family;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private String email;
+
+    private String name;
+
+    @Column(nullable = false, length = 30)
+    private String role;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    public RefreshToken() {}
+
+    public RefreshToken(String tokenHash, String family, Long userId, String email, String name, String role,
+                        LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.family = family;
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() { return id; }
+    public String getTokenHash() { return tokenHash; }
+    public String getFamily() { return family; }
+    public Long getUserId() { return userId; }
+    public String getEmail() { return email; }
+    public String getName() { return name; }
+    public String getRole() { return role; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public LocalDateTime getUsedAt() { return usedAt; }
+}
@@ -0,0 +1,27 @@
+package com.resolveit.resloveitbackend.Model;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row table the primary stamps with the current time (epoch ms). Reading the row back from
+ * the replica tells how far behind replication is; only used through JDBC, the entity keeps the
+ * table in the generated schema.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "beat_ms", nullable = false)
+    private long beatMs;
+
+    public ReplicationHeartbeat() {}
+
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public long getBeatMs() { return beatMs; }
+    public void setBeatMs(long beatMs) { this.beatMs = beatMs; }
+}
@@ -2,14 +2,21 @@ package com.resolveit.resloveitbackend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import java.io.IOException;
+
 @SpringBootApplication
 @EnableAsync
 public class ResloveitbackendApplication {
 
-    public static void main(String[] args) {
-        SpringApplication.run(ResloveitbackendApplication.class, args);
+    public static void main(String[] args) throws IOException {
+        SpringApplication app = new SpringApplication(ResloveitbackendApplication.class);
+        // Lowest-precedence defaults; application.properties stays untracked and can override any of them
+        app.setDefaultProperties(PropertiesLoaderUtils.loadProperties(new ClassPathResource("resolveit-defaults.properties")));
+        app.run(args);
     }
 
 }
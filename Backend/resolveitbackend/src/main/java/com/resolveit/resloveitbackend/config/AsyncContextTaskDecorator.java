@@ -0,0 +1,40 @@
+package com.resolveit.resloveitbackend.config;
+
+import com.resolveit.resloveitbackend.tracing.Tracer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Picked up by Boot's applicationTaskExecutor (alongside EmailOutboxTracker, see MetricsConfig), so
+ * @Async work (emails) runs with the submitting request's context: its trace (see Tracer#wrap) and
+ * its MDC, i.e. the request id in log lines.
+ */
+@Component
+public class AsyncContextTaskDecorator implements TaskDecorator {
+
+    private final Tracer tracer;
+
+    public AsyncContextTaskDecorator(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Runnable traced = tracer.wrap(runnable);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        if (mdc == null) return traced;
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(mdc);
+            try {
+                traced.run();
+            } finally {
+                if (previous == null) MDC.clear();
+                else MDC.setContextMap(previous);
+            }
+        };
+    }
+}
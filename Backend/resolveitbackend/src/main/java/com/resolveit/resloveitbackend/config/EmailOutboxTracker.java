@@ -0,0 +1,35 @@
+package com.resolveit.resloveitbackend.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts @Async email tasks waiting for and holding a sender. Counted at submission and start rather
+ * than read off a pool queue, so it works the same for the platform pool and for the virtual-thread
+ * executor of the vthreads profile, which has no queue to inspect. Not a TaskDecorator bean: Boot
+ * only applies a unique one, and AsyncContextTaskDecorator is that one (see MetricsConfig).
+ */
+public class EmailOutboxTracker implements TaskDecorator {
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger sending = new AtomicInteger();
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        waiting.incrementAndGet();
+        return () -> {
+            waiting.decrementAndGet();
+            sending.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                sending.decrementAndGet();
+            }
+        };
+    }
+
+    public int getWaiting() { return waiting.get(); }
+
+    public int getSending() { return sending.get(); }
+}
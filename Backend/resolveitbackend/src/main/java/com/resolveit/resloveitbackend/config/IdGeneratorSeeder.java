@@ -0,0 +1,61 @@
+package com.resolveit.resloveitbackend.config;
+
+import com.resolveit.resloveitbackend.id.BlockId;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the id_generators rows ahead of the ids already in use. Tables created before the
+ * switch from AUTO_INCREMENT to pooled ids would otherwise get blocks starting at 1 and
+ * collide with existing rows. Runs before the web server starts taking requests.
+ */
+@Component
+@DependsOn("entityManagerFactory") // schema (incl. id_generators) must exist first
+public class IdGeneratorSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+    static final int ALLOCATION_SIZE = BlockId.ALLOCATION_SIZE;
+
+    // sequence_name -> table whose ids it generates
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "complaints", "complaints",
+            "complaint_status_history", "complaint_status_history",
+            "complaint_notes", "complaint_notes");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seed() {
+        SEQUENCES.forEach((sequence, table) -> {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+                // The pooled optimizer hands out [next_val - allocationSize + 1, next_val]
+                long floor = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+                List<Long> current = jdbcTemplate.queryForList(
+                        "select next_val from id_generators where sequence_name = ?", Long.class, sequence);
+                if (current.isEmpty()) {
+                    jdbcTemplate.update("insert into id_generators (sequence_name, next_val) values (?, ?)", sequence, floor);
+                    log.info("Seeded id generator {} at {}", sequence, floor);
+                } else if (current.get(0) < floor) {
+                    jdbcTemplate.update("update id_generators set next_val = ? where sequence_name = ? and next_val < ?",
+                            floor, sequence, floor);
+                    log.info("Advanced id generator {} from {} to {}", sequence, current.get(0), floor);
+                }
+            } catch (Exception ex) {
+                log.warn("Could not verify id generator {}: {}", sequence, ex.getMessage());
+            }
+        });
+    }
+}
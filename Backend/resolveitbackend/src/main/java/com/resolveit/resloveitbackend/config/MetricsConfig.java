@@ -0,0 +1,105 @@
+package com.resolveit.resloveitbackend.config;
+
+import com.resolveit.resloveitbackend.scheduling.JobRunStats;
+import com.resolveit.resloveitbackend.scheduling.LeaseJobScheduler;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application meters on top of what Actuator already records (http.server.requests per route,
+ * hikaricp.connections.*, jvm.*, executor.*, hibernate.* including per-region second-level cache
+ * hits and misses). Percentile settings live in resolveit-defaults.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Enables @Timed on beans (e.g. ComplaintServiceImpl)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    private final EmailOutboxTracker emailOutbox = new EmailOutboxTracker();
+
+    // @Async email sends are the only users of Boot's applicationTaskExecutor; whichever executor that
+    // is (pool, or virtual threads in the vthreads profile), its tasks also pass through emailOutbox
+    @Bean
+    public ThreadPoolTaskExecutorCustomizer emailOutboxPoolCustomizer(AsyncContextTaskDecorator contextDecorator) {
+        return executor -> executor.setTaskDecorator(new CompositeTaskDecorator(List.of(emailOutbox, contextDecorator)));
+    }
+
+    @Bean
+    public SimpleAsyncTaskExecutorCustomizer emailOutboxVirtualCustomizer(AsyncContextTaskDecorator contextDecorator) {
+        return executor -> executor.setTaskDecorator(new CompositeTaskDecorator(List.of(emailOutbox, contextDecorator)));
+    }
+
+    @Bean
+    public MeterBinder emailQueueMetrics() {
+        return registry -> {
+            Gauge.builder("resolveit.email.queue.depth", emailOutbox, EmailOutboxTracker::getWaiting)
+                    .description("Emails waiting for a sender thread")
+                    .register(registry);
+            Gauge.builder("resolveit.email.senders.active", emailOutbox, EmailOutboxTracker::getSending)
+                    .description("Sender threads currently sending")
+                    .register(registry);
+        };
+    }
+
+    // Cluster jobs as this node sees them; runs summed over nodes give the cluster-wide rate, and lag
+    // is how long after its due time the last run here started
+    @Bean
+    public MeterBinder clusterJobMetrics(LeaseJobScheduler jobScheduler) {
+        return registry -> {
+            for (JobRunStats job : jobScheduler.getStats()) {
+                String name = job.getJobName();
+                FunctionCounter.builder("resolveit.job.runs", job, JobRunStats::getRuns)
+                        .tag("job", name).description("Runs started on this node").register(registry);
+                FunctionCounter.builder("resolveit.job.failures", job, JobRunStats::getFailures)
+                        .tag("job", name).description("Runs that threw").register(registry);
+                FunctionCounter.builder("resolveit.job.skipped", job, JobRunStats::getSkipped)
+                        .tag("job", name).description("Ticks that found the lease held or not yet due").register(registry);
+                FunctionCounter.builder("resolveit.job.leases.lost", job, JobRunStats::getLeasesLost)
+                        .tag("job", name).description("Runs fenced out by another node").register(registry);
+                TimeGauge.builder("resolveit.job.duration", job, TimeUnit.MILLISECONDS, JobRunStats::getLastDurationMs)
+                        .tag("job", name).description("Duration of the last run on this node").register(registry);
+                TimeGauge.builder("resolveit.job.duration.max", job, TimeUnit.MILLISECONDS, JobRunStats::getMaxDurationMs)
+                        .tag("job", name).description("Longest run on this node").register(registry);
+                TimeGauge.builder("resolveit.job.lag", job, TimeUnit.MILLISECONDS, JobRunStats::getLastLagMs)
+                        .tag("job", name).description("Start of the last run here after its due time").register(registry);
+            }
+        };
+    }
+
+    // cache.gets/puts/removals/evictions per second-level cache region, from the Ehcache JCache statistics;
+    // evictions show a region sized too small for its working set
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getCache().getRegionFactory();
+            if (!(regionFactory instanceof JCacheRegionFactory jcache)) return;
+            CacheManager cacheManager = jcache.getCacheManager();
+            for (String name : cacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, cacheManager.getCache(name), "cache.kind", "hibernate");
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.resolveit.resloveitbackend.config;
+
+import com.resolveit.resloveitbackend.datasource.ReadFromPrimaryInterceptor;
+import com.resolveit.resloveitbackend.datasource.ReadWriteRoutingDataSource;
+import com.resolveit.resloveitbackend.datasource.ReadYourWritesFilter;
+import com.resolveit.resloveitbackend.datasource.RecentWriters;
+import com.resolveit.resloveitbackend.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read/write splitting, enabled by setting app.datasource.replica.url. The primary pool is built
+ * from spring.datasource.* as before, the replica pool from app.datasource.replica.* (username and
+ * password default to the primary's, pool settings go under app.datasource.replica.hikari.*).
+ * Only the routing proxy is a DataSource bean, so JPA, JdbcTemplate and the SQL statistics proxy
+ * keep seeing a single DataSource.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties primaryProperties, Environment environment,
+                                               MeterRegistry registry,
+                                               @Value("${app.datasource.replica.lag-check-ms:1000}") long checkMs,
+                                               @Value("${app.datasource.replica.max-lag-ms:5000}") long maxLagMs) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        DataSourceProperties replicaProperties = binder.bind("app.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("app.datasource.replica.url is not set"));
+        if (!StringUtils.hasText(replicaProperties.getUsername())) {
+            replicaProperties.setUsername(primaryProperties.getUsername());
+            replicaProperties.setPassword(primaryProperties.getPassword());
+        }
+        HikariDataSource replica = replicaProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        // The pools are not beans, so Boot's Hikari metrics binder does not see them
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(registry);
+        primary.setMetricsTrackerFactory(metrics);
+        replica.setMetricsTrackerFactory(metrics);
+
+        return new ReplicaLagMonitor(primary, replica, Duration.ofMillis(checkMs), maxLagMs, registry);
+    }
+
+    @Bean
+    public RecentWriters recentWriters(@Value("${app.datasource.replica.sticky-ms:10000}") long stickyMs) {
+        return new RecentWriters(stickyMs);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(RecentWriters recentWriters) {
+        return new ReadYourWritesFilter(recentWriters);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaLagMonitor lagMonitor, RecentWriters recentWriters, MeterRegistry registry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, recentWriters, registry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // Honours @ReadFromPrimary on repository methods; static so it can post-process the repository beans
+    @Bean
+    public static BeanPostProcessor readFromPrimaryRepositories(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        ReadFromPrimaryInterceptor interceptor = new ReadFromPrimaryInterceptor(transactionManager);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxy, info) -> proxy.addAdvice(interceptor)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Spring's default keeps a connection for the whole EntityManager, which with open-in-view is the
+    // whole request: a write after a read-only call would reuse the replica connection
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
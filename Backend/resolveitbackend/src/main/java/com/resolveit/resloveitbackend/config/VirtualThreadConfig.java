@@ -0,0 +1,35 @@
+package com.resolveit.resloveitbackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Opt-in virtual-thread mode, enabled by the "vthreads" profile (application-vthreads.properties)
+ * on Java 21+. Boot then runs Tomcat requests, the @Async executor and scheduled jobs on virtual
+ * threads, and CloudinaryService uploads attachments on them. On an older JVM
+ * spring.threads.virtual.enabled has no effect, which is logged at startup.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode(ApplicationReadyEvent event) {
+        Environment env = event.getApplicationContext().getEnvironment();
+        boolean requested = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int java = Runtime.version().feature();
+        if (requested && Threading.VIRTUAL.isActive(env)) {
+            log.info("Virtual threads enabled (Java {}): Tomcat requests, @Async and uploads", java);
+        } else if (requested) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; using platform threads", java);
+        } else {
+            log.info("Platform threads (Java {}); start with the vthreads profile for virtual threads", java);
+        }
+    }
+}
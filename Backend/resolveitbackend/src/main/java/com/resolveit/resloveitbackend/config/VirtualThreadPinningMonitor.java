@@ -0,0 +1,82 @@
+package com.resolveit.resloveitbackend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier (blocking inside synchronized or a
+ * native frame) for longer than app.vthreads.pinning.threshold-ms, using the JFR
+ * jdk.VirtualThreadPinned event. Every occurrence counts towards resolveit.vthreads.pinned; each
+ * distinct stack is logged once, which is usually enough to find the monitor to replace.
+ * Known source: MySQL Connector/J before 9.0 blocks on socket reads inside synchronized.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int MAX_LOGGED_STACKS = 50;
+
+    private final Counter pinned;
+    private final long thresholdMs;
+    private final Set<String> seenStacks = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+                                       @Value("${app.vthreads.pinning.threshold-ms:20}") long thresholdMs) {
+        this.pinned = Counter.builder("resolveit.vthreads.pinned")
+                .description("Virtual threads pinned longer than the threshold")
+                .register(registry);
+        this.thresholdMs = thresholdMs;
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        String stack = describe(event.getStackTrace());
+        if (seenStacks.size() < MAX_LOGGED_STACKS && seenStacks.add(stack)) {
+            log.warn("[vthreads] pinned for {}ms:{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String describe(RecordedStackTrace trace) {
+        if (trace == null) return " (no stack)";
+        StringJoiner out = new StringJoiner("\n    at ", "\n    at ", "");
+        int shown = 0;
+        for (RecordedFrame frame : trace.getFrames()) {
+            if (!frame.isJavaFrame()) continue;
+            out.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber());
+            if (++shown == 12) break;
+        }
+        return out.toString();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) stream.close();
+    }
+}
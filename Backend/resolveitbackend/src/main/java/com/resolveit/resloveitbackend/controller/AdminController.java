@@ -3,16 +3,29 @@ package com.resolveit.resloveitbackend.controller;
 import com.resolveit.resloveitbackend.Model.Complaint;
 import com.resolveit.resloveitbackend.Model.Officer;
 import com.resolveit.resloveitbackend.Model.PendingOfficer;
-import com.resolveit.resloveitbackend.Model.ComplaintStatusHistory;
-import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.dto.BulkAssignRequest;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.events.ComplaintEventHub;
+import com.resolveit.resloveitbackend.events.OfficerDirectoryChangedEvent;
+import com.resolveit.resloveitbackend.exception.ResourceNotFoundException;
 import com.resolveit.resloveitbackend.repository.ComplaintRepository;
 import com.resolveit.resloveitbackend.repository.OfficerRepository;
 import com.resolveit.resloveitbackend.repository.PendingOfficerRepository;
-import com.resolveit.resloveitbackend.repository.ComplaintStatusHistoryRepository;
+import com.resolveit.resloveitbackend.scheduling.LeaseJobScheduler;
+import com.resolveit.resloveitbackend.service.BulkComplaintService;
+import com.resolveit.resloveitbackend.service.ComplaintService;
 import com.resolveit.resloveitbackend.service.EmailService;
+import com.resolveit.resloveitbackend.serviceImpl.ComplaintDetailCache;
+import com.resolveit.resloveitbackend.serviceImpl.OfficerDirectory;
+import com.resolveit.resloveitbackend.serviceImpl.OptimisticRetryExecutor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -24,6 +37,8 @@ import java.util.Optional;
 @CrossOrigin(origins = "*") // Better than empty @CrossOrigin
 public class AdminController {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
     @Autowired
     private PendingOfficerRepository pendingRepo;
 
@@ -37,10 +52,31 @@ public class AdminController {
     private ComplaintRepository complaintRepository; // Required for assignment
 
     @Autowired
-    private OfficerRepository officerRepository;
+    private LeaseJobScheduler jobScheduler;
+
+    @Autowired
+    private BulkComplaintService bulkComplaintService;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Autowired
+    private ComplaintEventHub eventHub;
 
     @Autowired
-    private ComplaintStatusHistoryRepository statusHistoryRepository;
+    private ComplaintDetailCache detailCache;
+
+    @Autowired
+    private OfficerDirectory officerDirectory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.bulk.max-ids:10000}")
+    private int bulkMaxIds;
 
     // === EXISTING: Approve Officer ===
     @PostMapping("/approve/{id}")
@@ -60,6 +96,7 @@ public class AdminController {
 
         officerRepo.save(newOfficer);
         pendingRepo.delete(pending);
+        eventPublisher.publishEvent(new OfficerDirectoryChangedEvent(newOfficer.getEmail()));
         try { emailService.sendSimpleMessage(newOfficer.getEmail(), "Officer Approved", "Your officer account has been approved."); } catch (Exception ignored) {}
         return ResponseEntity.ok("Officer approved successfully.");
     }
@@ -82,52 +119,78 @@ public class AdminController {
             @PathVariable Long complaintId,
             @RequestBody Map<String, String> request) {
 
-        long start = System.currentTimeMillis();
         String officerEmail = request.get("officerEmail");
 
-        System.out.println("[Admin Assign] Attempting to assign complaint " + complaintId + " to officer: " + officerEmail);
+        log.info("[Admin Assign] Attempting to assign complaint {} to officer: {}", complaintId, officerEmail);
 
         if (officerEmail == null || officerEmail.trim().isEmpty()) {
-            System.out.println("[Admin Assign] Error: officerEmail is null or empty");
+            log.warn("[Admin Assign] Error: officerEmail is null or empty");
             return ResponseEntity.badRequest().body("officerEmail is required");
         }
 
-        // Simple analytics for admin dashboard
-        Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
-        if (complaintOpt.isEmpty()) {
-            System.out.println("[Admin Assign] Error: Complaint not found with ID: " + complaintId);
-            return ResponseEntity.status(404).body("Complaint not found with ID: " + complaintId);
-        }
-
         Optional<Officer> officerOpt = officerRepo.findByEmail(officerEmail);
         if (officerOpt.isEmpty()) {
-            System.out.println("[Admin Assign] Error: No approved officer found with email: " + officerEmail);
+            log.warn("[Admin Assign] Error: No approved officer found with email: {}", officerEmail);
             return ResponseEntity.badRequest().body("No approved officer found with email: " + officerEmail);
         }
 
-        Complaint complaint = complaintOpt.get();
-        complaint.setAssignedTo(officerEmail);
-        complaint.setStatus(ComplaintStatus.ASSIGNED); // Auto-set to ASSIGNED
-        complaintRepository.save(complaint);
-        
-        // Save status history for ASSIGNED
-        ComplaintStatusHistory history = new ComplaintStatusHistory(complaint, ComplaintStatus.ASSIGNED, "admin", "Assigned to " + officerOpt.get().getName());
-        statusHistoryRepository.save(history);
-        
-        long afterSave = System.currentTimeMillis();
-        System.out.println("[Admin Assign] ✅ Successfully assigned complaint " + complaintId + " to " + officerEmail + " (assignedTo=" + complaint.getAssignedTo() + ") in " + (afterSave - start) + "ms");
-
-        // Notify officer and submitter (fire-and-forget async now)
+        // Versioned read-modify-write; a concurrent change is retried, then surfaces as 409
+        ComplaintDto assigned;
         try {
-            emailService.sendSimpleMessage(officerEmail, "New Assignment: " + complaint.getReferenceNumber(), "You have been assigned complaint " + complaint.getReferenceNumber());
-            if (complaint.getSubmittedBy() != null) emailService.sendStatusUpdateEmail(complaint.getSubmittedBy(), complaint.getReferenceNumber(), complaint.getStatus().name());
-        } catch (Exception ignored) {}
+            assigned = complaintService.assignOfficer(complaintId, officerOpt.get(), "admin");
+        } catch (ResourceNotFoundException ex) {
+            log.warn("[Admin Assign] Error: Complaint not found with ID: {}", complaintId);
+            return ResponseEntity.status(404).body("Complaint not found with ID: " + complaintId);
+        }
 
-        long end = System.currentTimeMillis();
-        System.out.println("[Admin Assign] completed handler for " + complaintId + " total=" + (end - start) + "ms");
+        // Latency is recorded per route by http.server.requests (see /actuator/prometheus)
+        log.info("[Admin Assign] Successfully assigned complaint {} to {} (assignedTo={})", complaintId, officerEmail, assigned.getAssignedTo());
         return ResponseEntity.ok("Officer " + officerOpt.get().getName() + " assigned successfully.");
     }
 
+    // Assign many complaints to one officer; returns a per-id result report
+    @PostMapping("/complaints/bulk/assign")
+    public ResponseEntity<?> bulkAssignOfficer(@RequestBody BulkAssignRequest request, Authentication auth) {
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            return ResponseEntity.badRequest().body("ids are required");
+        }
+        if (request.getIds().size() > bulkMaxIds) {
+            return ResponseEntity.badRequest().body("At most " + bulkMaxIds + " ids per request");
+        }
+        if (request.getOfficerEmail() == null || request.getOfficerEmail().trim().isEmpty()) {
+            return ResponseEntity.badRequest().body("officerEmail is required");
+        }
+        String requestedBy = auth != null ? auth.getName() : "system";
+        return ResponseEntity.ok(bulkComplaintService.assignOfficer(request.getIds(), request.getOfficerEmail().trim(), requestedBy));
+    }
+
+    // Cluster job run stats (duration, lag, lease activity) as seen from this node
+    @GetMapping("/jobs")
+    public ResponseEntity<?> getJobStats() {
+        Map<String, Object> out = new HashMap<>();
+        out.put("nodeId", jobScheduler.getNodeId());
+        out.put("jobs", jobScheduler.getStats());
+        return ResponseEntity.ok(out);
+    }
+
+    // Optimistic-lock conflicts per operation: how often they happen and how many retries gave up
+    @GetMapping("/concurrency")
+    public ResponseEntity<?> getConcurrencyStats() {
+        return ResponseEntity.ok(retryExecutor.getStats().values());
+    }
+
+    // Open live-update streams on this node and events pushed so far
+    @GetMapping("/events")
+    public ResponseEntity<?> getEventStreamStats() {
+        return ResponseEntity.ok(eventHub.getStats());
+    }
+
+    // Complaint detail cache effectiveness: hit ratio, coalesced misses, load times, evictions
+    @GetMapping("/cache")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(detailCache.getStats());
+    }
+
     //Simple analytics for admin dashboard
     @GetMapping("/analytics/overview")
     public ResponseEntity<?> getAnalyticsOverview() {
@@ -141,11 +204,14 @@ public class AdminController {
         long escalated = all.stream().filter(c -> c.getStatus().name().equals("ESCALATED")).count();
         long closed = all.stream().filter(c -> c.getStatus().name().equals("CLOSED")).count();
         long highPriority = all.stream().filter(c -> c.getPriority().name().equals("HIGH")).count();
-        long officers = officerRepository.count();
+        long officers = officerDirectory.size();
 
-        // Workload per officer
+        // Workload per officer: one grouped count instead of loading each officer's complaints
         Map<String, Integer> workload = new HashMap<>();
-        officerRepository.findAll().forEach(o -> workload.put(o.getEmail(), complaintRepository.findByAssignedTo(o.getEmail()).size()));
+        officerDirectory.all().forEach(o -> workload.put(o.getEmail(), 0));
+        for (Object[] row : complaintRepository.countAssignedByOfficer()) {
+            if (workload.containsKey((String) row[0])) workload.put((String) row[0], ((Long) row[1]).intValue());
+        }
 
         // Priority breakdown
         Map<String, Long> priorityBreakdown = new HashMap<>();
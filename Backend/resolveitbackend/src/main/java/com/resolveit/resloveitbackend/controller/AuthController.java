@@ -2,6 +2,7 @@ package com.resolveit.resloveitbackend.controller;
 
 import com.resolveit.resloveitbackend.dto.*;
 import com.resolveit.resloveitbackend.Model.User; 
+import com.resolveit.resloveitbackend.exception.AuthOverloadedException;
 import com.resolveit.resloveitbackend.repository.UserRepository;
 import com.resolveit.resloveitbackend.service.AuthService;
 import jakarta.validation.Valid;
@@ -28,6 +29,9 @@ public class AuthController {
         try {
             AuthResponse response = authService.register(req);
             return ResponseEntity.ok(response);
+        } catch (AuthOverloadedException ex) {
+            // 429 with Retry-After from GlobalExceptionHandler, not a registration error
+            throw ex;
         } catch (RuntimeException ex) {
             // Return a descriptive message from AuthService
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -45,6 +49,9 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(req.getEmail(), req.getPassword());
             return ResponseEntity.ok(response);
+        } catch (AuthOverloadedException ex) {
+            // Not a credentials problem: the client should retry, not tell the user the password is wrong
+            throw ex;
         } catch (RuntimeException ex) {
             // Return specific message for invalid email/password
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -56,6 +63,23 @@ public class AuthController {
         }
     }
 
+    // REFRESH: trade a refresh token for a new access token and a rotated refresh token.
+    // Failures are 401 INVALID_REFRESH_TOKEN from GlobalExceptionHandler; the client then logs in again
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> body) {
+        String refreshToken = body.get("refreshToken");
+        if (refreshToken == null || refreshToken.isBlank()) return ResponseEntity.badRequest().body("refreshToken is required");
+        return ResponseEntity.ok(authService.refresh(refreshToken));
+    }
+
+    // LOGOUT: revokes the refresh token (and the tokens rotated from the same login)
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody Map<String, String> body) {
+        String refreshToken = body.get("refreshToken");
+        if (refreshToken != null && !refreshToken.isBlank()) authService.logout(refreshToken);
+        return ResponseEntity.noContent().build();
+    }
+
     //ME endpoint (fetch user info using token)
     @GetMapping("/me")
     public ResponseEntity<?> me(Authentication authentication) {
@@ -100,6 +124,8 @@ public class AuthController {
         try {
             authService.resetPassword(token, newPassword);
             return ResponseEntity.ok("Password reset successful.");
+        } catch (AuthOverloadedException ex) {
+            throw ex;
         } catch (RuntimeException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
         } catch (Exception ex) {
@@ -1,12 +1,19 @@
 package com.resolveit.resloveitbackend.controller;
 
 import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.dto.BulkStatusUpdateRequest;
 import com.resolveit.resloveitbackend.dto.ComplaintRequest;
 import com.resolveit.resloveitbackend.dto.StatusUpdateDto;
 import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.dto.ComplaintFilter;
+import com.resolveit.resloveitbackend.dto.ComplaintListVersion;
+import com.resolveit.resloveitbackend.exception.ConcurrentUpdateException;
+import com.resolveit.resloveitbackend.service.BulkComplaintService;
 import com.resolveit.resloveitbackend.service.CloudinaryService;
 
+import com.resolveit.resloveitbackend.service.ComplaintSearchService;
 import com.resolveit.resloveitbackend.service.ComplaintService;
+import com.resolveit.resloveitbackend.service.ComplaintSyncService;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
@@ -17,8 +24,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -34,6 +44,18 @@ public class ComplaintController {
     @Autowired
     private CloudinaryService cloudinaryService;
 
+    @Autowired
+    private BulkComplaintService bulkComplaintService;
+
+    @Autowired
+    private ComplaintSyncService complaintSyncService;
+
+    @Autowired
+    private ComplaintSearchService complaintSearchService;
+
+    @Value("${app.bulk.max-ids:10000}")
+    private int bulkMaxIds;
+
     private final Path uploadRoot = Paths.get("uploads/complaints");
 
     public ComplaintController() {
@@ -83,13 +105,44 @@ public class ComplaintController {
     }
 
     @GetMapping("/user")
-    public List<ComplaintDto> getUserComplaints(@RequestParam String email) {
-        return complaintService.getUserComplaints(email);
+    public ResponseEntity<?> getUserComplaints(@RequestParam String email,
+                                               @RequestParam(required = false) String changedSince,
+                                               WebRequest request) {
+        if (changedSince != null) {
+            return ResponseEntity.ok(complaintSyncService.getUserComplaintsChangedSince(email, changedSince));
+        }
+        return ConditionalGet.respond(request, complaintService.getUserComplaintsETag(email),
+                () -> complaintService.getUserComplaints(email));
     }
 
+    // With changedSince only complaints changed after that watermark are returned, plus a new watermark
     @GetMapping
-    public List<ComplaintDto> getAllComplaints() {
-        return complaintService.getAllComplaints();
+    public ResponseEntity<?> getAllComplaints(@RequestParam(required = false) String changedSince,
+                                              WebRequest request) {
+        if (changedSince != null) {
+            return ResponseEntity.ok(complaintSyncService.getAllComplaintsChangedSince(changedSince));
+        }
+        return ConditionalGet.respond(request, complaintService.getAllComplaintsETag(),
+                complaintService::getAllComplaints);
+    }
+
+    // Server-side filter/sort/paging; officers only see complaints assigned to them, citizens their own
+    @GetMapping("/search")
+    public ResponseEntity<?> searchComplaints(@ModelAttribute ComplaintFilter filter,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              @RequestParam(required = false) String sort,
+                                              Authentication auth) {
+        if (hasAuthority(auth, "ROLE_OFFICER")) {
+            filter.setAssignedTo(auth.getName());
+        } else if (!hasAuthority(auth, "ROLE_ADMIN")) {
+            filter.setUserEmail(auth.getName());
+        }
+        return ResponseEntity.ok(complaintSearchService.search(filter, page, size, sort));
+    }
+
+    private static boolean hasAuthority(Authentication auth, String authority) {
+        return auth != null && auth.getAuthorities().stream().anyMatch(a -> authority.equals(a.getAuthority()));
     }
 
     // Escalate a complaint (officer/admin)
@@ -151,6 +204,8 @@ public class ComplaintController {
         try {
             ComplaintDto dto = complaintService.updateComplaintPriority(id, priority, requestedBy);
             return ResponseEntity.ok(dto);
+        } catch (ConcurrentUpdateException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
         } catch (RuntimeException ex) {
             return ResponseEntity.badRequest().body(ex.getMessage());
         }
@@ -191,12 +246,44 @@ public class ComplaintController {
         }
     }
 
-    // Get a single complaint by id
+    // Bulk status change (admin); returns a per-id result report
+    @PostMapping("/bulk/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkUpdateStatus(@RequestBody BulkStatusUpdateRequest request, Authentication auth) {
+        if (request.getIds() == null || request.getIds().isEmpty())
+            return ResponseEntity.badRequest().body("ids are required");
+        if (request.getIds().size() > bulkMaxIds)
+            return ResponseEntity.badRequest().body("At most " + bulkMaxIds + " ids per request");
+        if (request.getStatus() == null || request.getStatus().isBlank())
+            return ResponseEntity.badRequest().body("status is required");
+        // Recorded in every complaint's status history, so it comes from the token, never the body
+        String requestedBy = auth != null ? auth.getName() : "system";
+        return ResponseEntity.ok(bulkComplaintService.updateStatus(request.getIds(), request.getStatus(), requestedBy));
+    }
+
+    // Incremental thread refresh: only replies with id > after
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<?> getReplies(@PathVariable Long id,
+                                        @RequestParam(defaultValue = "0") Long after,
+                                        @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(complaintService.getRepliesAfter(id, after, limit));
+    }
+
+    // Status timeline page; follow nextCursor until it comes back null
+    @GetMapping("/{id}/history")
+    public ResponseEntity<?> getStatusHistory(@PathVariable Long id,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(complaintService.getStatusHistory(id, cursor, limit));
+    }
+
+    // Get a single complaint by id; If-None-Match is checked against the row version first
     @GetMapping("/{id}")
-    public ResponseEntity<?> getComplaint(@PathVariable Long id) {
+    public ResponseEntity<?> getComplaint(@PathVariable Long id, WebRequest request) {
         try {
-            ComplaintDto dto = complaintService.getComplaintById(id);
-            return ResponseEntity.ok(dto);
+            long version = complaintService.getComplaintVersion(id);
+            return ConditionalGet.respondJson(request, ComplaintListVersion.etag(id, version),
+                    () -> complaintService.getComplaintJson(id, version));
         } catch (RuntimeException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
         }
@@ -0,0 +1,39 @@
+package com.resolveit.resloveitbackend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+// If-None-Match handling for GETs whose ETag is cheaper to compute than the body
+final class ConditionalGet {
+
+    // Revalidate on every use; private because responses are per-user (Authorization header)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {}
+
+    /**
+     * Answers 304 when the client's copy matches etag; otherwise builds the body. The etag must be
+     * read before the body: a write in between then yields a newer body under an older tag, which
+     * only costs the client one extra 200 later, never a stale 304.
+     */
+    static ResponseEntity<?> respond(WebRequest request, String etag, Supplier<?> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    // Same, for bodies that are already serialized JSON
+    static ResponseEntity<?> respondJson(WebRequest request, String etag, Supplier<byte[]> json) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON).body(json.get());
+    }
+}
@@ -0,0 +1,45 @@
+package com.resolveit.resloveitbackend.controller;
+
+import com.resolveit.resloveitbackend.events.ComplaintEventHub;
+import com.resolveit.resloveitbackend.events.ComplaintEventHub.Scope;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventStreamController {
+
+    @Autowired
+    private ComplaintEventHub eventHub;
+
+    // Live complaint changes for the caller's role; replaces dashboard polling
+    @GetMapping(value = "/complaints", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComplaintChanges(Authentication auth) {
+        if (auth == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        SseEmitter emitter = eventHub.subscribe(auth.getName(), scopeOf(auth));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // don't let nginx buffer the stream
+                .body(emitter);
+    }
+
+    private static Scope scopeOf(Authentication auth) {
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(authority.getAuthority())) return Scope.ADMIN;
+            if ("ROLE_OFFICER".equals(authority.getAuthority())) return Scope.OFFICER;
+        }
+        return Scope.CITIZEN;
+    }
+}
@@ -1,16 +1,22 @@
 package com.resolveit.resloveitbackend.controller;
 
 import com.resolveit.resloveitbackend.Model.Complaint;
-import com.resolveit.resloveitbackend.Model.Officer;
 import com.resolveit.resloveitbackend.Model.PendingOfficer;
+import com.resolveit.resloveitbackend.dto.OfficerDto;
+import com.resolveit.resloveitbackend.exception.AuthOverloadedException;
 import com.resolveit.resloveitbackend.repository.ComplaintRepository;
 import com.resolveit.resloveitbackend.repository.OfficerRepository;
 import com.resolveit.resloveitbackend.repository.PendingOfficerRepository;
 import com.resolveit.resloveitbackend.service.CloudinaryService;
+import com.resolveit.resloveitbackend.service.ComplaintSyncService;
+import com.resolveit.resloveitbackend.serviceImpl.OfficerDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -23,6 +29,8 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:8081"})
 public class OfficerController {
 
+    private static final Logger log = LoggerFactory.getLogger(OfficerController.class);
+
     @Autowired
     private PendingOfficerRepository pendingRepo;
 
@@ -38,6 +46,12 @@ public class OfficerController {
     @Autowired
     private CloudinaryService cloudinaryService;
 
+    @Autowired
+    private ComplaintSyncService complaintSyncService;
+
+    @Autowired
+    private OfficerDirectory officerDirectory;
+
     
     @PostMapping(value = "/officers/register", consumes = {"multipart/form-data"})
     public ResponseEntity<String> registerOfficer(
@@ -59,7 +73,7 @@ public class OfficerController {
             if (certificate != null && !certificate.isEmpty()) {
                 try {
                     certificateUrl = cloudinaryService.uploadFile(certificate, "officer_certificates");
-                    System.out.println("Certificate uploaded to Cloudinary: " + certificateUrl);
+                    log.info("Certificate uploaded to Cloudinary: {}", certificateUrl);
                 } catch (IOException e) {
                     return ResponseEntity.internalServerError().body("Failed to upload certificate: " + e.getMessage());
                 }
@@ -76,8 +90,10 @@ public class OfficerController {
 
             pendingRepo.save(officer);
             return ResponseEntity.ok("Registration submitted. Await admin approval.");
+        } catch (AuthOverloadedException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Officer registration failed", e);
             return ResponseEntity.internalServerError().body("Registration failed.");
         }
     }
@@ -91,37 +107,51 @@ public class OfficerController {
     }
 
    
+    // Served from the in-memory directory; the projection leaves out password hash and certificate
     @GetMapping("/officers")
-    public ResponseEntity<List<Officer>> getAllApprovedOfficers() {
-        return ResponseEntity.ok(officerRepo.findAll());
+    public ResponseEntity<List<OfficerDto>> getAllApprovedOfficers() {
+        return ResponseEntity.ok(officerDirectory.all());
     }
 
     @GetMapping("/officer/complaints")
-    public ResponseEntity<List<Complaint>> getAssignedComplaints(@RequestParam String email) {
+    public ResponseEntity<?> getAssignedComplaints(@RequestParam String email,
+                                                   @RequestParam(required = false) String changedSince,
+                                                   WebRequest request) {
         if (email == null || email.isEmpty()) {
-            System.out.println("[Officer Complaints] Email parameter is empty");
+            log.warn("[Officer Complaints] Email parameter is empty");
             return ResponseEntity.badRequest().body(null);
         }
 
-        System.out.println("[Officer Complaints] Fetching complaints for email: " + email);
+        // Delta mode: changed complaints plus ids reassigned away from this officer since the watermark
+        if (changedSince != null) {
+            return ResponseEntity.ok(complaintSyncService.getOfficerComplaintsChangedSince(email, changedSince));
+        }
+
+        return ConditionalGet.respond(request, complaintRepository.findListVersionByAssignedTo(email).etag(),
+                () -> findAssignedComplaints(email));
+    }
+
+    private List<Complaint> findAssignedComplaints(String email) {
+        log.debug("[Officer Complaints] Fetching complaints for email: {}", email);
         
         // Don't fail if officer is not found in officer table; return empty list so frontend handles it gracefully
         List<Complaint> assignedComplaints = complaintRepository.findByAssignedTo(email);
         
-        System.out.println("[Officer Complaints] Query result: " + (assignedComplaints == null ? "null" : assignedComplaints.size() + " complaints"));
+        log.debug("[Officer Complaints] Query result: {}", assignedComplaints == null ? "null" : assignedComplaints.size() + " complaints");
         
         if (assignedComplaints == null || assignedComplaints.isEmpty()) {
             // log for diagnostics
-            System.out.println("[Officer Complaints] No complaints found assigned to: " + email);
+            log.debug("[Officer Complaints] No complaints found assigned to: {}", email);
             
-            // DEBUG: Check all complaints in database
-            long totalComplaints = complaintRepository.count();
-            System.out.println("[Officer Complaints] Total complaints in DB: " + totalComplaints);
+            // DEBUG: Check all complaints in database (an extra count query, so only when debugging)
+            if (log.isDebugEnabled()) {
+                log.debug("[Officer Complaints] Total complaints in DB: {}", complaintRepository.count());
+            }
             
-            return ResponseEntity.ok(java.util.Collections.emptyList());
+            return java.util.Collections.emptyList();
         }
 
-        System.out.println("[Officer Complaints] Found " + assignedComplaints.size() + " complaints for " + email);
-        return ResponseEntity.ok(assignedComplaints);
+        log.debug("[Officer Complaints] Found {} complaints for {}", assignedComplaints.size(), email);
+        return assignedComplaints;
     }
-}
\ No newline at end of file
+}
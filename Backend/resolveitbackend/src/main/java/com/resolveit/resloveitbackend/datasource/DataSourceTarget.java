@@ -0,0 +1,7 @@
+package com.resolveit.resloveitbackend.datasource;
+
+/** Lookup keys of {@link ReadWriteRoutingDataSource}. */
+public enum DataSourceTarget {
+    PRIMARY,
+    REPLICA
+}
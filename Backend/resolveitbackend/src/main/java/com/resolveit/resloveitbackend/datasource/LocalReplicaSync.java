@@ -0,0 +1,134 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for replication when running against two embedded H2 databases (profile
+ * "replica-local", Maven profile "h2"). Copies the primary's schema to the replica once, then
+ * every copy-interval-ms replaces the replica's rows with the primary's in one transaction, so
+ * the replica trails the primary by up to that interval, heartbeat included.
+ */
+@Component
+@Profile("replica-local")
+public class LocalReplicaSync {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReplicaSync.class);
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private boolean schemaCopied;
+
+    @Value("${spring.datasource.url}")
+    private String primaryUrl;
+
+    @Value("${app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${spring.datasource.username:sa}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${app.datasource.replica.local.copy-interval-ms:3000}")
+    private long copyIntervalMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("replica-sync-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::sync, Duration.ofMillis(copyIntervalMs));
+        log.info("Copying {} to {} every {}ms", primaryUrl, replicaUrl, copyIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    void sync() {
+        try (Connection primary = DriverManager.getConnection(primaryUrl, username, password);
+             Connection replica = DriverManager.getConnection(replicaUrl, username, password)) {
+            if (!schemaCopied) {
+                copySchema(primary, replica);
+                schemaCopied = true;
+            }
+            copyRows(primary, replica);
+        } catch (SQLException ex) {
+            log.warn("Replica sync failed: {}", ex.getMessage());
+        }
+    }
+
+    private void copySchema(Connection primary, Connection replica) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement st = primary.createStatement(); ResultSet rs = st.executeQuery("SCRIPT NODATA")) {
+            while (rs.next()) ddl.add(rs.getString(1));
+        }
+        try (Statement st = replica.createStatement()) {
+            for (String sql : ddl) {
+                if (!sql.startsWith("CREATE USER")) st.execute(sql);
+            }
+            // Rows arrive table by table; the primary has already checked them
+            st.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+        log.info("Copied schema ({} statements) to the replica", ddl.size());
+    }
+
+    private void copyRows(Connection primary, Connection replica) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        DatabaseMetaData meta = primary.getMetaData();
+        try (ResultSet rs = meta.getTables(null, null, "%", new String[]{"TABLE", "BASE TABLE"})) {
+            while (rs.next()) {
+                if ("public".equalsIgnoreCase(rs.getString("TABLE_SCHEM"))) tables.add(rs.getString("TABLE_NAME"));
+            }
+        }
+        replica.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                copyTable(primary, replica, table);
+            }
+            replica.commit();
+        } catch (SQLException ex) {
+            replica.rollback();
+            throw ex;
+        }
+    }
+
+    private static void copyTable(Connection primary, Connection replica, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement delete = replica.createStatement()) {
+            delete.executeUpdate("delete from " + quoted);
+        }
+        try (Statement select = primary.createStatement(); ResultSet rs = select.executeQuery("select * from " + quoted)) {
+            int columns = rs.getMetaData().getColumnCount();
+            String insert = "insert into " + quoted + " values (" + "?,".repeat(columns - 1) + "?)";
+            try (PreparedStatement ps = replica.prepareStatement(insert)) {
+                while (rs.next()) {
+                    for (int i = 1; i <= columns; i++) ps.setObject(i, rs.getObject(i));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+    }
+}
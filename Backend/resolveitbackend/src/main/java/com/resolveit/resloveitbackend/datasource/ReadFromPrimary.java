@@ -0,0 +1,17 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends a repository query method to the primary even in a read-only transaction, for lookups whose
+ * results outlive the call (the query cache) and whose callers cannot rely on read-your-writes, such
+ * as JwtAuthFilter, which runs before any user is authenticated and gets whatever an earlier
+ * read-only transaction put in the cache. Applied by {@link ReadFromPrimaryInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+}
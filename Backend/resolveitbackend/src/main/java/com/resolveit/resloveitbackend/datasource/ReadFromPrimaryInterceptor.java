@@ -0,0 +1,56 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Pins connections to the primary for the duration of a {@link ReadFromPrimary} repository method.
+ * Added to every repository proxy by ReadReplicaConfig. Connections are acquired lazily, so outside a
+ * transaction the pin is in place before one is needed; inside a read-only transaction, which may
+ * already hold a replica connection, the method runs in a read-only transaction of its own.
+ */
+public class ReadFromPrimaryInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public ReadFromPrimaryInterceptor(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!invocation.getMethod().isAnnotationPresent(ReadFromPrimary.class) || ReadWriteRoutingDataSource.isPinned()) {
+            return invocation.proceed();
+        }
+        boolean ownTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        ReadWriteRoutingDataSource.PINNED.set(Boolean.TRUE);
+        try {
+            return ownTransaction ? inNewTransaction(invocation) : invocation.proceed();
+        } finally {
+            ReadWriteRoutingDataSource.PINNED.remove();
+        }
+    }
+
+    private Object inNewTransaction(MethodInvocation invocation) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager.getObject());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            try {
+                return invocation.proceed();
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new UndeclaredThrowableException(ex);
+            }
+        });
+    }
+}
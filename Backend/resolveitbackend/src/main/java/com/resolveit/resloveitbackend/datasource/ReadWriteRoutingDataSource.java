@@ -0,0 +1,90 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * Reads fall back to the primary while {@link ReplicaLagMonitor} reports the replica as lagging or
+ * unreachable, for a short while after the current user's own write (read-your-writes; writers
+ * are marked here and by {@link ReadYourWritesFilter}, since submissions commit on the ingestion thread),
+ * and inside {@link ReadFromPrimary} repository methods.
+ *
+ * The decision needs the transaction's read-only flag, which Spring sets after the transaction
+ * manager has asked for a connection, so this must sit behind a LazyConnectionDataSourceProxy.
+ * Work outside a transaction (e.g. lazy loading in the view) always uses the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    // Set by ReadFromPrimaryInterceptor
+    static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final RecentWriters recentWriters;
+
+    private final Counter toReplica;
+    private final Counter writes;
+    private final Counter readsLagging;
+    private final Counter readsSticky;
+    private final Counter readsPinned;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, RecentWriters recentWriters, MeterRegistry registry) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = recentWriters;
+        setTargetDataSources(Map.of(DataSourceTarget.PRIMARY, lagMonitor.getPrimary(),
+                DataSourceTarget.REPLICA, lagMonitor.getReplica()));
+        setDefaultTargetDataSource(lagMonitor.getPrimary());
+        setLenientFallback(false);
+
+        String name = "resolveit.datasource.routed";
+        this.toReplica = Counter.builder(name).tag("target", "replica").tag("reason", "read-only").register(registry);
+        this.writes = Counter.builder(name).tag("target", "primary").tag("reason", "read-write").register(registry);
+        this.readsLagging = Counter.builder(name).tag("target", "primary").tag("reason", "replica-unavailable").register(registry);
+        this.readsSticky = Counter.builder(name).tag("target", "primary").tag("reason", "read-your-writes").register(registry);
+        this.readsPinned = Counter.builder(name).tag("target", "primary").tag("reason", "pinned").register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceTarget.PRIMARY;
+        }
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null) recentWriters.markWrite(user);
+            writes.increment();
+            return DataSourceTarget.PRIMARY;
+        }
+        if (isPinned()) {
+            readsPinned.increment();
+            return DataSourceTarget.PRIMARY;
+        }
+        if (user != null && recentWriters.isSticky(user)) {
+            readsSticky.increment();
+            return DataSourceTarget.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            readsLagging.increment();
+            return DataSourceTarget.PRIMARY;
+        }
+        toReplica.increment();
+        return DataSourceTarget.REPLICA;
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) return null;
+        return auth.getName();
+    }
+}
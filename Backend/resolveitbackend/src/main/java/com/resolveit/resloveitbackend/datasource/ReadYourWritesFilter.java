@@ -0,0 +1,38 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Marks the authenticated user as a recent writer for every mutating request, before it runs (so
+ * reads later in the same request see its writes) and again when it completes (so the sticky window
+ * starts after the commit). Runs after the security filter chain, which sets the user.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RecentWriters recentWriters;
+
+    public ReadYourWritesFilter(RecentWriters recentWriters) {
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String user = READ_METHODS.contains(request.getMethod()) ? null : ReadWriteRoutingDataSource.currentUser();
+        if (user != null) recentWriters.markWrite(user);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (user != null) recentWriters.markWrite(user);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users who wrote in the last stickyMs, so their reads stay on the primary until the replica has
+ * caught up with their own writes. Kept per instance: a user whose next request lands on another
+ * node can still read slightly stale data there.
+ */
+public class RecentWriters {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long stickyMs;
+    // user -> epoch ms until which reads go to the primary
+    private final Map<String, Long> until = new ConcurrentHashMap<>();
+
+    public RecentWriters(long stickyMs) {
+        this.stickyMs = stickyMs;
+    }
+
+    public void markWrite(String user) {
+        until.put(user, System.currentTimeMillis() + stickyMs);
+        if (until.size() > PURGE_THRESHOLD) purgeExpired();
+    }
+
+    public boolean isSticky(String user) {
+        Long deadline = until.get(user);
+        if (deadline == null) return false;
+        if (deadline > System.currentTimeMillis()) return true;
+        until.remove(user, deadline);
+        return false;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        until.values().removeIf(deadline -> deadline <= now);
+    }
+}
@@ -0,0 +1,126 @@
+package com.resolveit.resloveitbackend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Measures replication lag with a heartbeat: every checkInterval the primary's
+ * replication_heartbeat row is stamped with the current time, and the replica's copy of the row
+ * is read back. Its age is the lag, at the granularity of the check interval. The replica is
+ * usable while the lag is at most maxLag and the last check succeeded; it has to fall to half of
+ * maxLag before a lagging replica is used again, so routing does not flap around the threshold.
+ *
+ * Every instance stamps the same row. Clock skew between instances adds to the measured lag.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final HikariDataSource primaryPool;
+    private final HikariDataSource replicaPool;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration checkInterval;
+    private final long maxLagMs;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    private volatile boolean usable;
+    // -1 until the first successful check, or while the replica is unreachable
+    private volatile long lagMs = -1;
+
+    public ReplicaLagMonitor(HikariDataSource primary, HikariDataSource replica, Duration checkInterval, long maxLagMs,
+                             MeterRegistry registry) {
+        this.primaryPool = primary;
+        this.replicaPool = replica;
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.checkInterval = checkInterval;
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("resolveit.datasource.replica.lag", this, m -> m.lagMs < 0 ? Double.NaN : m.lagMs / 1000.0)
+                .baseUnit("seconds").register(registry);
+        Gauge.builder("resolveit.datasource.replica.usable", this, m -> m.usable ? 1 : 0).register(registry);
+    }
+
+    DataSource getPrimary() {
+        return primaryPool;
+    }
+
+    DataSource getReplica() {
+        return replicaPool;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("replica-lag-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::check, checkInterval);
+        log.info("Routing read-only transactions to the replica while lag <= {}ms (checked every {})", maxLagMs, checkInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        replicaPool.close();
+        primaryPool.close();
+    }
+
+    void check() {
+        try {
+            long now = System.currentTimeMillis();
+            if (primary.update("update replication_heartbeat set beat_ms = ? where id = 1", now) == 0) {
+                primary.update("insert into replication_heartbeat (id, beat_ms) values (1, ?)", now);
+            }
+        } catch (Exception ex) {
+            // Cannot stamp: keep judging the replica against the last beat it has
+            log.debug("Could not write replication heartbeat: {}", ex.getMessage());
+        }
+
+        try {
+            List<Long> beat = replica.queryForList("select beat_ms from replication_heartbeat where id = 1", Long.class);
+            if (beat.isEmpty()) {
+                update(-1, "no heartbeat row on the replica yet");
+            } else {
+                long lag = Math.max(0, System.currentTimeMillis() - beat.get(0));
+                update(lag, null);
+            }
+        } catch (Exception ex) {
+            update(-1, ex.getMessage());
+        }
+    }
+
+    private void update(long lag, String failure) {
+        lagMs = lag;
+        boolean next = lag >= 0 && (usable ? lag <= maxLagMs : lag <= maxLagMs / 2);
+        if (next == usable) return;
+        usable = next;
+        if (next) {
+            log.info("Replica usable again (lag {}ms); read-only transactions go to the replica", lag);
+        } else if (failure != null) {
+            log.warn("Replica unavailable ({}); read-only transactions go to the primary", failure);
+        } else {
+            log.warn("Replica lag {}ms exceeds {}ms; read-only transactions go to the primary", lag, maxLagMs);
+        }
+    }
+}
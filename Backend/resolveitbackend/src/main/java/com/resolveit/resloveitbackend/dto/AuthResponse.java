@@ -7,6 +7,9 @@ public class AuthResponse {
     private String email;
     private String name;
     private String role;
+    private String refreshToken;
+    // Access token lifetime in seconds
+    private Long expiresIn;
 
     public AuthResponse(String token, Long userId, String email, String name, String role) {
         this.token = token;
@@ -16,6 +19,12 @@ public class AuthResponse {
         this.role = role;
     }
 
+    public AuthResponse(String token, String refreshToken, long expiresIn, Long userId, String email, String name, String role) {
+        this(token, userId, email, name, role);
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
     // getters
     public String getToken(){return token;}
     public String getTokenType(){return tokenType;}
@@ -23,4 +32,6 @@ public class AuthResponse {
     public String getEmail(){return email;}
     public String getName(){return name;}
     public String getRole(){return role;}
+    public String getRefreshToken(){return refreshToken;}
+    public Long getExpiresIn(){return expiresIn;}
 }
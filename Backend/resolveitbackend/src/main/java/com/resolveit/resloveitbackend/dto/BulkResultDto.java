@@ -0,0 +1,60 @@
+package com.resolveit.resloveitbackend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-id outcome report for bulk complaint operations
+public class BulkResultDto {
+
+    // CONFLICT: the complaint changed between the bulk read and its update, which was skipped
+    public enum Outcome { UPDATED, UNCHANGED, NOT_FOUND, CONFLICT, FAILED }
+
+    public static class Item {
+        private Long id;
+        private Outcome outcome;
+        private String message;
+
+        public Item() {}
+
+        public Item(Long id, Outcome outcome, String message) {
+            this.id = id;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        public Long getId() { return id; }
+        public Outcome getOutcome() { return outcome; }
+        public String getMessage() { return message; }
+    }
+
+    private int requested;
+    private int updated;
+    private int unchanged;
+    private int notFound;
+    private int conflicts;
+    private int failed;
+    private long durationMs;
+    private List<Item> results = new ArrayList<>();
+
+    public void add(Item item) {
+        results.add(item);
+        switch (item.getOutcome()) {
+            case UPDATED -> updated++;
+            case UNCHANGED -> unchanged++;
+            case NOT_FOUND -> notFound++;
+            case CONFLICT -> conflicts++;
+            case FAILED -> failed++;
+        }
+    }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+    public int getUpdated() { return updated; }
+    public int getUnchanged() { return unchanged; }
+    public int getNotFound() { return notFound; }
+    public int getConflicts() { return conflicts; }
+    public int getFailed() { return failed; }
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+    public List<Item> getResults() { return results; }
+}
@@ -0,0 +1,15 @@
+package com.resolveit.resloveitbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateRequest {
+    private List<Long> ids;
+    private String status;
+}
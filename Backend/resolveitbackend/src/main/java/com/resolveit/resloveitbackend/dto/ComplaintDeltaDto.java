@@ -0,0 +1,36 @@
+package com.resolveit.resloveitbackend.dto;
+
+import java.util.List;
+
+/**
+ * Response of a changedSince poll: complaints inserted or updated since the watermark, ids that
+ * left the caller's list, and the watermark to send next time. When full is true the watermark
+ * was too old to answer incrementally and items is the complete list (replace, don't merge).
+ */
+public class ComplaintDeltaDto {
+    private List<ComplaintDto> items;
+    private List<Long> removedIds;
+    private String watermark;
+    private boolean full;
+
+    public ComplaintDeltaDto() {}
+
+    public ComplaintDeltaDto(List<ComplaintDto> items, List<Long> removedIds, String watermark, boolean full) {
+        this.items = items;
+        this.removedIds = removedIds;
+        this.watermark = watermark;
+        this.full = full;
+    }
+
+    public List<ComplaintDto> getItems() { return items; }
+    public void setItems(List<ComplaintDto> items) { this.items = items; }
+
+    public List<Long> getRemovedIds() { return removedIds; }
+    public void setRemovedIds(List<Long> removedIds) { this.removedIds = removedIds; }
+
+    public String getWatermark() { return watermark; }
+    public void setWatermark(String watermark) { this.watermark = watermark; }
+
+    public boolean isFull() { return full; }
+    public void setFull(boolean full) { this.full = full; }
+}
@@ -0,0 +1,46 @@
+package com.resolveit.resloveitbackend.dto;
+
+/**
+ * Query parameters of GET /api/complaints/search. All fields are optional and combine with AND.
+ * status and priority take comma-separated values; from/to are ISO dates or date-times on
+ * submittedAt. assignedTo and userEmail are also set by the controller to scope officers and
+ * citizens to their own complaints.
+ */
+public class ComplaintFilter {
+    private String status;
+    private String priority;
+    private String category;
+    private String department;
+    private Boolean escalated;
+    private String assignedTo;
+    private String userEmail;
+    private String from;
+    private String to;
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+
+    public Boolean getEscalated() { return escalated; }
+    public void setEscalated(Boolean escalated) { this.escalated = escalated; }
+
+    public String getAssignedTo() { return assignedTo; }
+    public void setAssignedTo(String assignedTo) { this.assignedTo = assignedTo; }
+
+    public String getUserEmail() { return userEmail; }
+    public void setUserEmail(String userEmail) { this.userEmail = userEmail; }
+
+    public String getFrom() { return from; }
+    public void setFrom(String from) { this.from = from; }
+
+    public String getTo() { return to; }
+    public void setTo(String to) { this.to = to; }
+}
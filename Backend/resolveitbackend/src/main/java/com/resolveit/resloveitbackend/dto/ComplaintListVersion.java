@@ -0,0 +1,20 @@
+package com.resolveit.resloveitbackend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fingerprint of a complaint list, computed with one aggregate query. Every write bumps a row's
+ * version and last_updated_at, so any insert, update or row leaving the list changes at least
+ * one of the three values.
+ */
+public record ComplaintListVersion(Long count, Long versionSum, LocalDateTime lastUpdatedAt) {
+
+    public String etag() {
+        long at = lastUpdatedAt == null ? 0 : lastUpdatedAt.atZone(java.time.ZoneOffset.UTC).toInstant().toEpochMilli();
+        return "\"l-" + count + "-" + versionSum + "-" + Long.toString(at, 36) + "\"";
+    }
+
+    public static String etag(Long complaintId, Long version) {
+        return "\"c-" + complaintId + "-" + version + "\"";
+    }
+}
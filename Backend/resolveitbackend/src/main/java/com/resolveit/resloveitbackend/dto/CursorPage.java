@@ -0,0 +1,24 @@
+package com.resolveit.resloveitbackend.dto;
+
+import java.util.List;
+
+// One page of a keyset-paginated list; pass nextCursor back to continue, null means no more rows
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return nextCursor != null; }
+}
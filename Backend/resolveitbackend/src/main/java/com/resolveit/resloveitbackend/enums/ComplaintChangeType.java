@@ -0,0 +1,10 @@
+package com.resolveit.resloveitbackend.enums;
+
+public enum ComplaintChangeType {
+    SUBMITTED,
+    STATUS_CHANGED,
+    PRIORITY_CHANGED,
+    ASSIGNED,
+    ESCALATED,
+    REPLY_ADDED
+}
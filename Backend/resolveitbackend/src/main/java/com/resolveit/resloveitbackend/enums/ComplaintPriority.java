@@ -1,7 +1,14 @@
 package com.resolveit.resloveitbackend.enums;
 public enum ComplaintPriority {
-    URGENT,            // Requires immediate attention (24-48 hours)
-    HIGH,              // Important, requires quick attention (3-5 days)
-    MEDIUM,            // Standard grievance (7-10 days)
-    LOW                // Non-urgent, general inquiry (15 days)
-}
\ No newline at end of file
+    URGENT(48),            // Requires immediate attention (24-48 hours)
+    HIGH(5 * 24),          // Important, requires quick attention (3-5 days)
+    MEDIUM(10 * 24),       // Standard grievance (7-10 days)
+    LOW(15 * 24);          // Non-urgent, general inquiry (15 days)
+
+    // Upper bound of the resolution window, used by the SLA check job
+    private final int slaHours;
+
+    ComplaintPriority(int slaHours) { this.slaHours = slaHours; }
+
+    public int getSlaHours() { return slaHours; }
+}
@@ -0,0 +1,33 @@
+package com.resolveit.resloveitbackend.events;
+
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.enums.ComplaintChangeType;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed change to a complaint as pushed to dashboards. previousStatus and
+ * previousAssignee are null when they are unknown or did not change.
+ */
+public record ComplaintChange(Long id,
+                              String referenceNumber,
+                              ComplaintChangeType type,
+                              ComplaintStatus status,
+                              ComplaintStatus previousStatus,
+                              String submittedBy,
+                              String assignedTo,
+                              String previousAssignee,
+                              LocalDateTime at) {
+
+    public static ComplaintChange of(ComplaintDto dto, ComplaintChangeType type,
+                                     ComplaintStatus previousStatus, String previousAssignee) {
+        return new ComplaintChange(dto.getId(), dto.getReferenceNumber(), type, dto.getStatus(), previousStatus,
+                dto.getSubmittedBy(), dto.getAssignedTo(), previousAssignee, LocalDateTime.now());
+    }
+
+    public static ComplaintChange of(ComplaintRouting routing, ComplaintChangeType type, ComplaintStatus status) {
+        return new ComplaintChange(routing.id(), routing.referenceNumber(), type, status, routing.status(),
+                routing.submittedBy(), routing.assignedTo(), null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,14 @@
+package com.resolveit.resloveitbackend.events;
+
+import java.util.List;
+
+/**
+ * Published by the complaint services from inside the writing transaction; listeners see it only
+ * once that transaction commits. Bulk operations publish one event per chunk.
+ */
+public record ComplaintChangeEvent(List<ComplaintChange> changes) {
+
+    public static ComplaintChangeEvent of(ComplaintChange change) {
+        return new ComplaintChangeEvent(List.of(change));
+    }
+}
@@ -0,0 +1,18 @@
+package com.resolveit.resloveitbackend.events;
+
+/**
+ * A notification email owed for a complaint change. Published inside the writing transaction and
+ * sent by ComplaintEmailNotifier once it commits, so a rolled-back change never emails anyone.
+ */
+public record ComplaintEmailEvent(Kind kind, String to, String referenceNumber, String status, int level, String reason) {
+
+    public enum Kind { STATUS_UPDATE, ESCALATION }
+
+    public static ComplaintEmailEvent statusUpdate(String to, String referenceNumber, String status) {
+        return new ComplaintEmailEvent(Kind.STATUS_UPDATE, to, referenceNumber, status, 0, null);
+    }
+
+    public static ComplaintEmailEvent escalation(String to, String referenceNumber, int level, String reason) {
+        return new ComplaintEmailEvent(Kind.ESCALATION, to, referenceNumber, null, level, reason);
+    }
+}
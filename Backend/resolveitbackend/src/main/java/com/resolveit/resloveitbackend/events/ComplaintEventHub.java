@@ -0,0 +1,301 @@
+package com.resolveit.resloveitbackend.events;
+
+import com.resolveit.resloveitbackend.enums.ComplaintChangeType;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed complaint changes out to open SSE streams, filtered per subscriber: admins see
+ * everything (plus analytics deltas), officers their queue, citizens their own complaints.
+ *
+ * Streams are servlet-async, so an open dashboard holds no request thread, but it is not free: a
+ * socket, an emitter, a send queue, and a heartbeat write every app.events.heartbeat-ms.
+ *
+ * Writes are blocking, so one slow client must not hold up the rest. Each subscriber has its own
+ * bounded queue (app.events.queue-capacity) drained by at most one sender at a time, which keeps
+ * emitter access single-threaded per stream. Senders run on virtual threads in the vthreads
+ * profile and on a small pool (app.events.sender-threads) otherwise. A subscriber whose queue
+ * overflows is closed; its client reconnects and refetches on "ready". The scheduler thread only
+ * filters and enqueues, so neither it nor the committing request waits on a client.
+ */
+@Component
+public class ComplaintEventHub implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintEventHub.class);
+
+    public enum Scope { ADMIN, OFFICER, CITIZEN }
+
+    private static final class Subscriber {
+        final String email;
+        final Scope scope;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        // Set while a sender owns this subscriber's queue
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(String email, Scope scope, SseEmitter emitter, int queueCapacity) {
+            this.email = email;
+            this.scope = scope;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        String email() { return email; }
+        Scope scope() { return scope; }
+        SseEmitter emitter() { return emitter; }
+    }
+
+    // Analytics counters touched by a change; complete=false means other figures (priority, workload) moved too
+    public record AnalyticsDelta(int totalComplaints, Map<String, Integer> statusBreakdown, boolean complete) {}
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService dispatcher;
+    private final AsyncTaskExecutor senders;
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicLong eventsSent = new AtomicLong();
+    private final AtomicLong subscribersDropped = new AtomicLong();
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+
+    public ComplaintEventHub(@Value("${app.events.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                             @Value("${app.events.heartbeat-ms:25000}") long heartbeatMs,
+                             @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+                             @Value("${app.events.queue-capacity:64}") int queueCapacity,
+                             @Value("${app.events.sender-threads:8}") int senderThreads,
+                             Environment environment) {
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.senders = senderExecutor(environment, senderThreads);
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "complaint-events");
+            t.setDaemon(true);
+            return t;
+        });
+        // Comment lines keep proxies from closing idle streams and flush out dead connections
+        dispatcher.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Virtual threads in the vthreads profile (see VirtualThreadConfig), a small pool otherwise
+    private static AsyncTaskExecutor senderExecutor(Environment environment, int senderThreads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("complaint-events-send-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("complaint-events-send-");
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /** Opens a stream, or returns null when the node is already at its subscriber limit. */
+    public SseEmitter subscribe(String email, Scope scope) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(email, scope, emitter, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // Tells the client it is live; it refetches once so nothing committed while it was away is missed
+        enqueue(subscriber, SseEmitter.event().name("ready").data(Map.of("scope", scope.name())));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ComplaintChangeEvent event) {
+        if (event.changes().isEmpty() || subscribers.isEmpty()) return;
+        dispatcher.execute(() -> dispatch(event.changes()));
+    }
+
+    private void dispatch(List<ComplaintChange> changes) {
+        AnalyticsDelta delta = null;
+        String id = String.valueOf(eventIds.incrementAndGet());
+        for (Subscriber subscriber : subscribers) {
+            List<ComplaintChange> visible = changes.stream().filter(c -> visibleTo(subscriber, c)).toList();
+            if (visible.isEmpty()) continue;
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("changes", visible);
+            if (subscriber.scope() == Scope.ADMIN) {
+                if (delta == null) delta = analyticsDelta(changes);
+                payload.put("analytics", delta);
+            }
+            enqueue(subscriber, SseEmitter.event().id(id).name("complaints").data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private static boolean visibleTo(Subscriber subscriber, ComplaintChange change) {
+        return switch (subscriber.scope()) {
+            case ADMIN -> true;
+            case OFFICER -> subscriber.email().equalsIgnoreCase(nullToEmpty(change.assignedTo()))
+                    || subscriber.email().equalsIgnoreCase(nullToEmpty(change.previousAssignee()));
+            case CITIZEN -> subscriber.email().equalsIgnoreCase(nullToEmpty(change.submittedBy()));
+        };
+    }
+
+    static AnalyticsDelta analyticsDelta(List<ComplaintChange> changes) {
+        int total = 0;
+        boolean complete = true;
+        Map<String, Integer> status = new LinkedHashMap<>();
+        for (ComplaintChange c : changes) {
+            switch (c.type()) {
+                case SUBMITTED -> {
+                    total++;
+                    status.merge(analyticsKey(c.status()), 1, Integer::sum);
+                    complete = false; // priority breakdown and possibly workload
+                }
+                case STATUS_CHANGED, ASSIGNED -> {
+                    if (c.previousStatus() == null) {
+                        complete = false;
+                    } else if (!analyticsKey(c.previousStatus()).equals(analyticsKey(c.status()))) {
+                        status.merge(analyticsKey(c.previousStatus()), -1, Integer::sum);
+                        status.merge(analyticsKey(c.status()), 1, Integer::sum);
+                    }
+                    if (c.type() == ComplaintChangeType.ASSIGNED) complete = false; // workload
+                }
+                case PRIORITY_CHANGED -> complete = false;
+                case ESCALATED, REPLY_ADDED -> { }
+            }
+        }
+        status.values().removeIf(v -> v == 0);
+        return new AnalyticsDelta(total, status, complete);
+    }
+
+    // Same buckets as /api/admin/analytics/overview statusBreakdown
+    private static String analyticsKey(ComplaintStatus status) {
+        if (status == null) return "pending";
+        return switch (status) {
+            case IN_PROGRESS, UNDER_REVIEW -> "in-progress";
+            default -> status.name().toLowerCase();
+        };
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            // Not keeping up; closing beats buffering without bound, and the client resyncs on reconnect
+            if (subscribers.remove(subscriber)) {
+                subscribersDropped.incrementAndGet();
+                log.info("Closing event stream of {} ({}): {} events queued", subscriber.email(), subscriber.scope(), queueCapacity);
+                subscriber.emitter().complete();
+            }
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        SseEmitter.SseEventBuilder event;
+        while ((event = subscriber.queue.poll()) != null) {
+            if (!send(subscriber, event)) {
+                subscriber.queue.clear();
+                break;
+            }
+        }
+        subscriber.draining.set(false);
+        // An event queued after the last poll but before the flag cleared would otherwise wait for the next one
+        if (!subscriber.queue.isEmpty()) scheduleDrain(subscriber);
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+            eventsSent.incrementAndGet();
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away; the container will also fire onError/onCompletion
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(ex);
+            return false;
+        }
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("resolveit.events.subscribers", subscribers, Collection::size).register(registry);
+        FunctionCounter.builder("resolveit.events.sent", eventsSent, AtomicLong::get).register(registry);
+        FunctionCounter.builder("resolveit.events.subscribers.dropped", subscribersDropped, AtomicLong::get)
+                .description("Streams closed because their send queue overflowed")
+                .register(registry);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        Map<Scope, Integer> byScope = new LinkedHashMap<>();
+        for (Subscriber s : new ArrayList<>(subscribers)) byScope.merge(s.scope(), 1, Integer::sum);
+        out.put("subscribers", subscribers.size());
+        out.put("byScope", byScope);
+        out.put("eventsSent", eventsSent.get());
+        out.put("subscribersDropped", subscribersDropped.get());
+        return out;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        if (senders instanceof ThreadPoolTaskExecutor pool) pool.shutdown();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter().complete();
+            } catch (Exception ignored) {
+            }
+        }
+        subscribers.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package com.resolveit.resloveitbackend.events;
+
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+
+/** The few columns needed to decide who hears about a change, read without loading the complaint. */
+public record ComplaintRouting(Long id, String referenceNumber, ComplaintStatus status,
+                               String submittedBy, String assignedTo) {}
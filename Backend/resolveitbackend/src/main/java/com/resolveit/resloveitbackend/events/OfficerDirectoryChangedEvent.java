@@ -0,0 +1,4 @@
+package com.resolveit.resloveitbackend.events;
+
+// Published when an officer row is added or changed (approval, password reset)
+public record OfficerDirectoryChangedEvent(String email) {}
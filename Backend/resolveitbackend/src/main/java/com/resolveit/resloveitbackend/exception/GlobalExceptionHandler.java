@@ -23,6 +23,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_REFRESH_TOKEN", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
     @ExceptionHandler(EmailAlreadyRegisteredException.class)
     public ResponseEntity<ErrorResponse> handleEmailAlreadyRegistered(EmailAlreadyRegisteredException ex) {
         log.warn("Email already registered: {}", ex.getMessage());
@@ -66,6 +72,53 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(IngestionOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleIngestionOverloaded(IngestionOverloadedException ex) {
+        log.warn("Submission rejected: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("SUBMISSIONS_OVERLOADED", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    // 202, not 5xx: the complaint may still be stored, and a retry would create a duplicate
+    @ExceptionHandler(SubmissionPendingException.class)
+    public ResponseEntity<ErrorResponse> handleSubmissionPending(SubmissionPendingException ex) {
+        log.warn("Submission outcome pending: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("SUBMISSION_PENDING", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(errorResponse);
+    }
+
+    @ExceptionHandler(AuthOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleAuthOverloaded(AuthOverloadedException ex) {
+        log.warn("Password hashing saturated: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("AUTH_OVERLOADED", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        log.warn("Invalid cursor: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_CURSOR", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFilter(InvalidFilterException ex) {
+        log.warn("Invalid filter: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_FILTER", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(ConcurrentUpdateException ex) {
+        log.warn("Concurrent update: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("CONCURRENT_UPDATE", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntime(RuntimeException ex) {
         log.error("Unexpected runtime error: {}", ex.getMessage(), ex);
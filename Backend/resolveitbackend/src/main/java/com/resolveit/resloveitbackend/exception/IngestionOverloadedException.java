@@ -0,0 +1,7 @@
+package com.resolveit.resloveitbackend.exception;
+
+public class IngestionOverloadedException extends RuntimeException {
+    public IngestionOverloadedException(String message) {
+        super(message);
+    }
+}
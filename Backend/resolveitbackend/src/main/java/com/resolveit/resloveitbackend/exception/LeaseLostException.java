@@ -0,0 +1,7 @@
+package com.resolveit.resloveitbackend.exception;
+
+public class LeaseLostException extends RuntimeException {
+    public LeaseLostException(String message) {
+        super(message);
+    }
+}
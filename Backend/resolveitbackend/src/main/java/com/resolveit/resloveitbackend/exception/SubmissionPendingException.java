@@ -0,0 +1,8 @@
+package com.resolveit.resloveitbackend.exception;
+
+// The submission was handed to the writer but its commit has not been confirmed yet; it may still succeed
+public class SubmissionPendingException extends RuntimeException {
+    public SubmissionPendingException(String message) {
+        super(message);
+    }
+}
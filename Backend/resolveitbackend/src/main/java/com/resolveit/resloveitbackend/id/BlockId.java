@@ -0,0 +1,24 @@
+package com.resolveit.resloveitbackend.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pooled ids from a row of the id_generators table, so inserts can be JDBC-batched; see
+ * {@link BlockTableGenerator}. IdGeneratorSeeder keeps each row ahead of the ids in use.
+ */
+@IdGeneratorType(BlockTableGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockId {
+
+    /** Ids handed out per block; IdGeneratorSeeder assumes this value. */
+    int ALLOCATION_SIZE = 50;
+
+    /** The sequence_name row to draw from. */
+    String value();
+}
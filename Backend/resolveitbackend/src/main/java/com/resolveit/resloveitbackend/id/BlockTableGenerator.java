@@ -0,0 +1,62 @@
+package com.resolveit.resloveitbackend.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * Hibernate's pooled table generator (same table, same optimizer, same schema export), except that
+ * blocks are fetched through the {@link IdBlockAllocator} registered under
+ * {@link IdBlockAllocator#SETTING} instead of on a second connection from the request pool.
+ * Without an allocator (e.g. in a @DataJpaTest slice) it behaves exactly like the stock generator.
+ */
+public class BlockTableGenerator extends TableGenerator {
+
+    private final BlockId config;
+
+    public BlockTableGenerator(BlockId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.put(TABLE_PARAM, "id_generators");
+        parameters.put(SEGMENT_COLUMN_PARAM, "sequence_name");
+        parameters.put(VALUE_COLUMN_PARAM, "next_val");
+        parameters.put(SEGMENT_VALUE_PARAM, config.value());
+        parameters.put(INITIAL_PARAM, "1");
+        parameters.put(INCREMENT_PARAM, String.valueOf(BlockId.ALLOCATION_SIZE));
+        parameters.put(OPT_PARAM, "pooled");
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object obj) {
+        Object setting = session.getFactory().getProperties().get(IdBlockAllocator.SETTING);
+        if (!(setting instanceof IdBlockAllocator allocator)) return super.generate(session, obj);
+
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                long value = allocator.next(getTableName(), getSegmentColumnName(), getValueColumnName(),
+                        getSegmentValue(), getInitialValue(), getIncrementSize());
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(getIdentifierType().getReturnedClass())
+                        .initialize(value);
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.resolveit.resloveitbackend.id;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Hands out id blocks from a generator table on connections of its own. Hibernate's table
+ * generator borrows a second connection from the request pool for every block while the request
+ * transaction holds its first; with every pooled connection held by writers waiting for the same
+ * generator, none is left for the block and the pool locks up until connection-timeout. A block
+ * taken here never competes with request transactions, so a pool of one is enough.
+ */
+public class IdBlockAllocator implements AutoCloseable {
+
+    /** Hibernate setting under which the allocator is handed to {@link BlockTableGenerator}. */
+    public static final String SETTING = "resolveit.id.block-allocator";
+
+    private final DataSource dataSource;
+
+    public IdBlockAllocator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Advances the segment's row by increment and returns the value it had, as Hibernate's table
+     * generator does, so nodes on either generator hand out disjoint blocks. A missing row is
+     * created at initialValue.
+     */
+    public long next(String table, String segmentColumn, String valueColumn, String segment,
+                     long initialValue, int increment) {
+        String update = "update " + table + " set " + valueColumn + " = " + valueColumn + " + ? where " + segmentColumn + " = ?";
+        String select = "select " + valueColumn + " from " + table + " where " + segmentColumn + " = ?";
+        String insert = "insert into " + table + " (" + segmentColumn + ", " + valueColumn + ") values (?, ?)";
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long value;
+                if (update(connection, update, increment, segment) == 1) {
+                    value = select(connection, select, segment) - increment;
+                } else {
+                    try (PreparedStatement ps = connection.prepareStatement(insert)) {
+                        ps.setString(1, segment);
+                        ps.setLong(2, initialValue + increment);
+                        ps.executeUpdate();
+                    }
+                    value = initialValue;
+                }
+                connection.commit();
+                return value;
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not allocate an id block for " + segment, ex);
+        }
+    }
+
+    private static int update(Connection connection, String sql, int increment, String segment) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, increment);
+            ps.setString(2, segment);
+            return ps.executeUpdate();
+        }
+    }
+
+    private static long select(Connection connection, String sql, String segment) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, segment);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) closeable.close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.resolveit.resloveitbackend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the INFO-and-below lines of one logger category for 1 in keepOneIn requests. The decision
+ * is made on the request id, so a sampled request keeps all of its lines from that category; WARN
+ * and ERROR always pass. Configured in logback-spring.xml, before any appender sees the event.
+ */
+public class RequestSamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix;
+    private int keepOneIn = 1;
+    private final AtomicLong unkeyed = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (keepOneIn <= 1 || level == null || level.isGreaterOrEqual(Level.WARN)
+                || loggerPrefix == null || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        long key = requestId != null ? requestId.hashCode() : unkeyed.getAndIncrement();
+        return Math.floorMod(key, keepOneIn) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setKeepOneIn(int keepOneIn) {
+        this.keepOneIn = keepOneIn;
+    }
+}
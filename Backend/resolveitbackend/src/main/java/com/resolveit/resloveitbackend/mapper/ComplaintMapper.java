@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ComplaintMapper {
+    // List shape: replies are not inlined (they are paged from /api/complaints/{id}/replies), so
+    // mapping a page of complaints never initializes their reply collections
     public static ComplaintDto toDto(Complaint c) {
         if (c == null) return null;
         ComplaintDto d = new ComplaintDto();
@@ -29,42 +31,46 @@ public class ComplaintMapper {
             d.setAttachmentCount(c.getAttachments().size()); // ✅ NEW
         }
 
-        // Replies mapping
-        if (c.getReplies() != null) {
+        // Escalation
+        d.setEscalated(c.isEscalated());
+        d.setEscalationLevel(c.getEscalationLevel());
+        d.setEscalationReason(c.getEscalationReason());
+        d.setEscalatedAt(c.getEscalatedAt());
+        return d;
+    }
+
+    // Detail shape: the list shape plus the reply thread
+    public static ComplaintDto toDetailDto(Complaint c) {
+        ComplaintDto d = toDto(c);
+        if (d != null && c.getReplies() != null) {
             java.util.List<com.resolveit.resloveitbackend.dto.ReplyDto> replies = new java.util.ArrayList<>();
             for (com.resolveit.resloveitbackend.Model.ComplaintReply r : c.getReplies()) {
-                com.resolveit.resloveitbackend.dto.ReplyDto rd = new com.resolveit.resloveitbackend.dto.ReplyDto();
-                rd.setId(r.getId());
-                rd.setContent(r.getContent());
-                rd.setCreatedBy(r.getCreatedBy());
-                rd.setCreatedAt(r.getCreatedAt());
-                rd.setAdminReply(r.isAdminReply());
-                replies.add(rd);
+                replies.add(toReplyDto(r));
             }
             d.setReplies(replies);
         }
+        return d;
+    }
 
-        // Status History mapping
-        if (c.getStatusHistory() != null) {
-            java.util.List<com.resolveit.resloveitbackend.dto.StatusHistoryDto> history = new java.util.ArrayList<>();
-            for (com.resolveit.resloveitbackend.Model.ComplaintStatusHistory h : c.getStatusHistory()) {
-                com.resolveit.resloveitbackend.dto.StatusHistoryDto hd = new com.resolveit.resloveitbackend.dto.StatusHistoryDto();
-                hd.setId(h.getId());
-                hd.setStatus(h.getStatus());
-                hd.setChangedAt(h.getChangedAt());
-                hd.setChangedBy(h.getChangedBy());
-                hd.setNotes(h.getNotes());
-                history.add(hd);
-            }
-            d.setStatusHistory(history);
-        }
+    public static com.resolveit.resloveitbackend.dto.ReplyDto toReplyDto(com.resolveit.resloveitbackend.Model.ComplaintReply r) {
+        com.resolveit.resloveitbackend.dto.ReplyDto rd = new com.resolveit.resloveitbackend.dto.ReplyDto();
+        rd.setId(r.getId());
+        rd.setContent(r.getContent());
+        rd.setCreatedBy(r.getCreatedBy());
+        rd.setCreatedAt(r.getCreatedAt());
+        rd.setAdminReply(r.isAdminReply());
+        return rd;
+    }
 
-        // Escalation
-        d.setEscalated(c.isEscalated());
-        d.setEscalationLevel(c.getEscalationLevel());
-        d.setEscalationReason(c.getEscalationReason());
-        d.setEscalatedAt(c.getEscalatedAt());
-        return d;
+    // Status history is served page by page from /api/complaints/{id}/history, not inlined in the dto
+    public static com.resolveit.resloveitbackend.dto.StatusHistoryDto toHistoryDto(com.resolveit.resloveitbackend.Model.ComplaintStatusHistory h) {
+        com.resolveit.resloveitbackend.dto.StatusHistoryDto hd = new com.resolveit.resloveitbackend.dto.StatusHistoryDto();
+        hd.setId(h.getId());
+        hd.setStatus(h.getStatus());
+        hd.setChangedAt(h.getChangedAt());
+        hd.setChangedBy(h.getChangedBy());
+        hd.setNotes(h.getNotes());
+        return hd;
     }
 
     public static List<ComplaintDto> toDtoList(List<Complaint> list) {
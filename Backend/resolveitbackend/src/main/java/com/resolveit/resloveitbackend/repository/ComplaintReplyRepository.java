@@ -1,9 +1,18 @@
 package com.resolveit.resloveitbackend.repository;
 
 import com.resolveit.resloveitbackend.Model.ComplaintReply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ComplaintReplyRepository extends JpaRepository<ComplaintReply, Long> {
+
+    // Served from the (complaint_id, id) index: cost depends on how many replies are new, not thread length
+    @Query("SELECT r FROM ComplaintReply r WHERE r.complaint.id = :complaintId AND r.id > :afterId ORDER BY r.id ASC")
+    List<ComplaintReply> findThreadAfter(@Param("complaintId") Long complaintId, @Param("afterId") Long afterId, Pageable page);
 }
@@ -2,13 +2,23 @@ package com.resolveit.resloveitbackend.repository;
 
 import com.resolveit.resloveitbackend.Model.Complaint;
 import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.dto.ComplaintListVersion;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.events.ComplaintRouting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, JpaSpecificationExecutor<Complaint> {
 
     List<Complaint> findByUser(User user);
 
@@ -16,5 +26,70 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
 
     List<Complaint> findByAssignedTo(String assignedTo);
 
-    List<Complaint> findByStatus(String status);
+    // Delta sync: rows inserted or updated at or after a watermark
+    List<Complaint> findByLastUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    List<Complaint> findByUserAndLastUpdatedAtGreaterThanEqual(User user, LocalDateTime since);
+
+    List<Complaint> findByAssignedToAndLastUpdatedAtGreaterThanEqual(String assignedTo, LocalDateTime since);
+
+    // Newest stamp this database has applied; the next delta watermark (idx_complaints_last_updated)
+    @Query("select max(c.lastUpdatedAt) from Complaint c")
+    LocalDateTime findLatestUpdate();
+
+    List<Complaint> findByStatus(ComplaintStatus status);
+
+    // Targeted writes: touch only the changed columns instead of re-saving the whole row
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Complaint c set c.status = :status, c.lastUpdatedAt = :at, c.lastUpdatedBy = :by, " +
+            "c.version = c.version + 1 where c.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") ComplaintStatus status,
+                     @Param("at") LocalDateTime at, @Param("by") String by);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Complaint c set c.escalated = true, c.escalationLevel = :level, c.escalationReason = :reason, " +
+            "c.escalatedAt = :at, c.lastUpdatedAt = :at, c.lastUpdatedBy = :by, c.version = c.version + 1 where c.id = :id")
+    int updateEscalation(@Param("id") Long id, @Param("level") int level, @Param("reason") String reason,
+                         @Param("at") LocalDateTime at, @Param("by") String by);
+
+    @Query("select new com.resolveit.resloveitbackend.events.ComplaintRouting(c.id, c.referenceNumber, c.status, " +
+            "c.submittedBy, c.assignedTo) from Complaint c where c.id = :id")
+    Optional<ComplaintRouting> findRoutingById(@Param("id") Long id);
+
+    // Conditional GET: validators come from these scalar queries, so a 304 never loads the entity graph
+    @Query("select c.version from Complaint c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.resolveit.resloveitbackend.dto.ComplaintListVersion(count(c), coalesce(sum(c.version), 0), " +
+            "max(c.lastUpdatedAt)) from Complaint c")
+    ComplaintListVersion findListVersion();
+
+    @Query("select new com.resolveit.resloveitbackend.dto.ComplaintListVersion(count(c), coalesce(sum(c.version), 0), " +
+            "max(c.lastUpdatedAt)) from Complaint c where c.user = :user")
+    ComplaintListVersion findListVersionByUser(@Param("user") User user);
+
+    @Query("select new com.resolveit.resloveitbackend.dto.ComplaintListVersion(count(c), coalesce(sum(c.version), 0), " +
+            "max(c.lastUpdatedAt)) from Complaint c where c.assignedTo = :assignedTo")
+    ComplaintListVersion findListVersionByAssignedTo(@Param("assignedTo") String assignedTo);
+
+    // Marks the complaint changed without touching its columns (e.g. a new reply), for ETags and delta sync
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Complaint c set c.lastUpdatedAt = :at, c.lastUpdatedBy = :by, c.version = c.version + 1 where c.id = :id")
+    int touch(@Param("id") Long id, @Param("at") LocalDateTime at, @Param("by") String by);
+
+    // (assignedTo, count) for every officer with at least one assigned complaint
+    @Query("select c.assignedTo, count(c) from Complaint c where c.assignedTo is not null group by c.assignedTo")
+    List<Object[]> countAssignedByOfficer();
+
+    @Query("select min(c.id) from Complaint c")
+    Long findMinId();
+
+    @Query("select max(c.id) from Complaint c")
+    Long findMaxId();
+
+    // Slim rows (id, referenceNumber, priority, submittedAt) for open, non-escalated complaints in an id range
+    @Query("select c.id, c.referenceNumber, c.priority, c.submittedAt from Complaint c " +
+            "where c.id between :fromId and :toId and c.escalated = false and c.status not in :excluded")
+    List<Object[]> findOpenSlaRows(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                   @Param("excluded") Collection<ComplaintStatus> excluded);
 }
\ No newline at end of file
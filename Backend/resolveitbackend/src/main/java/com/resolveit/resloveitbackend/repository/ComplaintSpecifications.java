@@ -0,0 +1,56 @@
+package com.resolveit.resloveitbackend.repository;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Typed predicates for complaint search. Each one is a plain column comparison so it can use the
+ * (column, submitted_at) indexes from V8; keep new filters index-friendly the same way.
+ */
+public final class ComplaintSpecifications {
+
+    private ComplaintSpecifications() {}
+
+    public static Specification<Complaint> statusIn(Collection<ComplaintStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Complaint> priorityIn(Collection<ComplaintPriority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Complaint> category(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Complaint> department(String department) {
+        return (root, query, cb) -> cb.equal(root.get("assignedDepartment"), department);
+    }
+
+    public static Specification<Complaint> escalated(boolean escalated) {
+        return (root, query, cb) -> cb.equal(root.get("escalated"), escalated);
+    }
+
+    public static Specification<Complaint> assignedTo(String email) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTo"), email);
+    }
+
+    // Compares the user_id foreign key directly, without joining users
+    public static Specification<Complaint> ownedBy(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Complaint> submittedFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("submittedAt"), from);
+    }
+
+    public static Specification<Complaint> submittedBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("submittedAt"), to);
+    }
+}
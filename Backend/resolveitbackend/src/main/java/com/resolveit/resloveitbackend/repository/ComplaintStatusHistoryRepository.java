@@ -1,12 +1,29 @@
 package com.resolveit.resloveitbackend.repository;
 
 import com.resolveit.resloveitbackend.Model.ComplaintStatusHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ComplaintStatusHistoryRepository extends JpaRepository<ComplaintStatusHistory, Long> {
     List<ComplaintStatusHistory> findByComplaintIdOrderByChangedAtAsc(Long complaintId);
+
+    // Keyset pages over (changed_at, id): each page is an index range scan, however deep the timeline
+    @Query("SELECT h FROM ComplaintStatusHistory h WHERE h.complaint.id = :complaintId " +
+           "ORDER BY h.changedAt ASC, h.id ASC")
+    List<ComplaintStatusHistory> findTimelineStart(@Param("complaintId") Long complaintId, Pageable page);
+
+    @Query("SELECT h FROM ComplaintStatusHistory h WHERE h.complaint.id = :complaintId " +
+           "AND (h.changedAt > :changedAt OR (h.changedAt = :changedAt AND h.id > :id)) " +
+           "ORDER BY h.changedAt ASC, h.id ASC")
+    List<ComplaintStatusHistory> findTimelineAfter(@Param("complaintId") Long complaintId,
+                                                   @Param("changedAt") LocalDateTime changedAt,
+                                                   @Param("id") Long id,
+                                                   Pageable page);
 }
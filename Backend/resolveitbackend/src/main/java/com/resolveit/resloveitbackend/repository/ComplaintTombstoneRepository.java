@@ -0,0 +1,24 @@
+package com.resolveit.resloveitbackend.repository;
+
+import com.resolveit.resloveitbackend.Model.ComplaintTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ComplaintTombstoneRepository extends JpaRepository<ComplaintTombstone, Long> {
+
+    @Query("select distinct t.complaintId from ComplaintTombstone t where t.audience = :audience and t.removedAt >= :since")
+    List<Long> findRemovedSince(@Param("audience") String audience, @Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ComplaintTombstone t where t.removedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,48 @@
+package com.resolveit.resloveitbackend.repository;
+
+import com.resolveit.resloveitbackend.Model.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // All lease times come from the database clock (local datetime), never from the calling node:
+    // a node whose clock runs ahead must not see a live lease as expired
+
+    // Take over an expired lease, or a released one whose next run is due; returns 1 only for the
+    // node that won the race. An unowned lease is not enough: release leaves it closed until due
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update JobLease l set l.ownerId = :owner, l.leaseUntil = timestampadd(second, :leaseSeconds, local datetime), " +
+            "l.heartbeatAt = local datetime, l.lastStartedAt = local datetime, l.fencingToken = l.fencingToken + 1 " +
+            "where l.jobName = :job and l.leaseUntil < local datetime")
+    int tryAcquire(@Param("job") String job, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // Extend a lease we still hold; returns 0 once another node has fenced us out
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update JobLease l set l.leaseUntil = timestampadd(second, :leaseSeconds, local datetime), " +
+            "l.heartbeatAt = local datetime " +
+            "where l.jobName = :job and l.ownerId = :owner and l.fencingToken = :token")
+    int heartbeat(@Param("job") String job, @Param("owner") String owner, @Param("token") long token,
+                  @Param("leaseSeconds") long leaseSeconds);
+
+    // Frees the lease but keeps it closed until the next run is due, so whichever node ticks next
+    // waits out the interval instead of running the job again straight away
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update JobLease l set l.ownerId = null, l.leaseUntil = timestampadd(second, :intervalSeconds, local datetime), " +
+            "l.lastCompletedAt = local datetime, l.lastDurationMs = :durationMs " +
+            "where l.jobName = :job and l.ownerId = :owner and l.fencingToken = :token")
+    int release(@Param("job") String job, @Param("owner") String owner, @Param("token") long token,
+                @Param("durationMs") long durationMs, @Param("intervalSeconds") long intervalSeconds);
+
+    @Query("select count(l) > 0 from JobLease l where l.jobName = :job and l.ownerId = :owner " +
+            "and l.fencingToken = :token and l.leaseUntil >= local datetime")
+    boolean isHeldBy(@Param("job") String job, @Param("owner") String owner, @Param("token") long token);
+}
@@ -1,7 +1,13 @@
 package com.resolveit.resloveitbackend.repository;
 
 import com.resolveit.resloveitbackend.Model.Officer;
+import com.resolveit.resloveitbackend.datasource.ReadFromPrimary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,6 +17,18 @@ public interface OfficerRepository extends JpaRepository<Officer, Long> {
 
     boolean existsByEmail(String email);
 
+    // Cached like UserRepository#findByEmail, and for the same reason filled from the primary
+    @ReadFromPrimary
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "officers.by_email")})
     Optional<Officer> findByEmail(String email);
 
-}
\ No newline at end of file
+    // Bypasses the query cache; see UserRepository#findFreshByEmail
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH"))
+    Optional<Officer> findFreshByEmail(String email);
+
+    // 0 when there are none; OfficerDirectory compares it to notice approvals made on other nodes
+    @Query("select coalesce(max(o.id), 0) from Officer o")
+    long findNewestId();
+
+}
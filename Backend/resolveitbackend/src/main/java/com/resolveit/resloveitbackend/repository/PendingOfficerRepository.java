@@ -1,9 +1,17 @@
 package com.resolveit.resloveitbackend.repository;
 
 import com.resolveit.resloveitbackend.Model.PendingOfficer;
+import com.resolveit.resloveitbackend.datasource.ReadFromPrimary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import java.util.Optional;
 
 public interface PendingOfficerRepository extends JpaRepository<PendingOfficer, Long> {
+    @ReadFromPrimary
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "pending_officers.by_email")})
     Optional<PendingOfficer> findByEmail(String email);
 }
@@ -0,0 +1,37 @@
+package com.resolveit.resloveitbackend.repository;
+
+import com.resolveit.resloveitbackend.Model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Claims the token for one rotation; 0 means another request already used it
+    @Modifying
+    @Query("update RefreshToken t set t.usedAt = :at where t.id = :id and t.usedAt is null")
+    int markUsed(@Param("id") Long id, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.family = :family")
+    int deleteByFamily(@Param("family") String family);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
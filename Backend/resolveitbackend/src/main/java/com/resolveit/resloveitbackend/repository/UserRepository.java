@@ -1,10 +1,35 @@
 package com.resolveit.resloveitbackend.repository;
 
 import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.datasource.ReadFromPrimary;
+import com.resolveit.resloveitbackend.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Query cache: served without SQL until a write to users or the region's TTL (see ehcache.xml).
+    // Misses go to the primary: a replica inside its lag window would cache "no such user" for the TTL
+    @ReadFromPrimary
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users.by_email")})
     Optional<User> findByEmail(String email);
+
+    // Always from the database, refreshing the cached entity: for password checks and changes, which
+    // must see a reset made on another node whose cache this node has not seen
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH"))
+    Optional<User> findFreshByEmail(String email);
+
     boolean existsByEmail(String email);
+
+    // Just the role, through the unique email index and past every cache: checked on each refresh
+    @Query("select u.role from User u where u.email = :email")
+    Optional<Role> findRoleByEmail(@Param("email") String email);
 }
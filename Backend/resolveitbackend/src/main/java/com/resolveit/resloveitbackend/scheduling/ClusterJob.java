@@ -0,0 +1,18 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import java.time.Duration;
+
+/**
+ * A periodic job that must run on exactly one node at a time. Jobs with more than one
+ * partition get one lease per partition, so several nodes can share the work.
+ */
+public interface ClusterJob {
+
+    String name();
+
+    Duration interval();
+
+    default int partitions() { return 1; }
+
+    void run(JobContext context) throws Exception;
+}
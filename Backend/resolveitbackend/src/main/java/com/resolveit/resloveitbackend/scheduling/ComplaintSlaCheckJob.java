@@ -0,0 +1,73 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Reports open complaints that are past the resolution window of their priority.
+ * Sharded by complaint id range so each node scans only the partitions it leased.
+ */
+@Component
+public class ComplaintSlaCheckJob implements ClusterJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintSlaCheckJob.class);
+    private static final int CHUNK_SIZE = 1000;
+    private static final EnumSet<ComplaintStatus> DONE = EnumSet.of(ComplaintStatus.RESOLVED, ComplaintStatus.CLOSED);
+
+    private final ComplaintRepository complaintRepository;
+    private final Duration interval;
+    private final int partitions;
+
+    public ComplaintSlaCheckJob(ComplaintRepository complaintRepository,
+                                @Value("${app.jobs.sla-check.interval-ms:600000}") long intervalMs,
+                                @Value("${app.jobs.sla-check.partitions:4}") int partitions) {
+        this.complaintRepository = complaintRepository;
+        this.interval = Duration.ofMillis(intervalMs);
+        this.partitions = partitions;
+    }
+
+    @Override
+    public String name() { return "sla-check"; }
+
+    @Override
+    public Duration interval() { return interval; }
+
+    @Override
+    public int partitions() { return partitions; }
+
+    @Override
+    public void run(JobContext context) {
+        Long minId = complaintRepository.findMinId();
+        Long maxId = complaintRepository.findMaxId();
+        if (minId == null || maxId == null) return;
+
+        long[] range = context.idRange(minId, maxId);
+        LocalDateTime now = LocalDateTime.now();
+        int breaches = 0;
+        for (long from = range[0]; from <= range[1]; from += CHUNK_SIZE) {
+            context.checkLease();
+            long to = Math.min(range[1], from + CHUNK_SIZE - 1);
+            List<Object[]> rows = complaintRepository.findOpenSlaRows(from, to, DONE);
+            for (Object[] row : rows) {
+                ComplaintPriority priority = (ComplaintPriority) row[2];
+                LocalDateTime submittedAt = (LocalDateTime) row[3];
+                if (priority != null && submittedAt != null
+                        && submittedAt.plusHours(priority.getSlaHours()).isBefore(now)) {
+                    breaches++;
+                    log.warn("SLA breached for complaint {} (priority {}, submitted {})", row[1], priority, submittedAt);
+                }
+            }
+        }
+        log.info("SLA check {} covered ids {}-{}: {} breach(es)", context.getLeaseName(), range[0], range[1], breaches);
+    }
+}
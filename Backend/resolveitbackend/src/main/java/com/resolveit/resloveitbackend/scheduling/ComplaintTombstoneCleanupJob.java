@@ -0,0 +1,41 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.repository.ComplaintTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Drops delta-sync tombstones older than the retention window; older watermarks get a full resync instead
+@Component
+public class ComplaintTombstoneCleanupJob implements ClusterJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintTombstoneCleanupJob.class);
+
+    private final ComplaintTombstoneRepository tombstoneRepository;
+    private final Duration interval;
+    private final Duration retention;
+
+    public ComplaintTombstoneCleanupJob(ComplaintTombstoneRepository tombstoneRepository,
+                                        @Value("${app.jobs.tombstone-cleanup.interval-ms:3600000}") long intervalMs,
+                                        @Value("${app.sync.tombstone-retention-hours:72}") long retentionHours) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.interval = Duration.ofMillis(intervalMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Override
+    public String name() { return "tombstone-cleanup"; }
+
+    @Override
+    public Duration interval() { return interval; }
+
+    @Override
+    public void run(JobContext context) {
+        int removed = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (removed > 0) log.info("Removed {} expired complaint tombstones", removed);
+    }
+}
@@ -0,0 +1,51 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.exception.LeaseLostException;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Handed to a running job. Long jobs should call {@link #checkLease()} between chunks of
+ * work so they stop as soon as another node has taken the lease over.
+ */
+public class JobContext {
+
+    private final String leaseName;
+    private final int partition;
+    private final int partitionCount;
+    private final long fencingToken;
+    private final BooleanSupplier leaseHeld;
+
+    JobContext(String leaseName, int partition, int partitionCount, long fencingToken, BooleanSupplier leaseHeld) {
+        this.leaseName = leaseName;
+        this.partition = partition;
+        this.partitionCount = partitionCount;
+        this.fencingToken = fencingToken;
+        this.leaseHeld = leaseHeld;
+    }
+
+    public String getLeaseName() { return leaseName; }
+    public int getPartition() { return partition; }
+    public int getPartitionCount() { return partitionCount; }
+    public long getFencingToken() { return fencingToken; }
+
+    public boolean isLeaseHeld() { return leaseHeld.getAsBoolean(); }
+
+    public void checkLease() {
+        if (!isLeaseHeld()) {
+            throw new LeaseLostException("Lease " + leaseName + " lost (fencing token " + fencingToken + ")");
+        }
+    }
+
+    /**
+     * Splits the inclusive id range [minId, maxId] into partitionCount contiguous slices and
+     * returns the slice owned by this partition as {from, to}, both inclusive.
+     */
+    public long[] idRange(long minId, long maxId) {
+        long span = maxId - minId + 1;
+        long size = (span + partitionCount - 1) / partitionCount;
+        long from = minId + size * partition;
+        long to = Math.min(maxId, from + size - 1);
+        return new long[] { from, to };
+    }
+}
@@ -0,0 +1,47 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-job run statistics as seen from this node.
+ */
+public class JobRunStats {
+
+    private final String jobName;
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong leasesLost = new AtomicLong();
+    private volatile long lastDurationMs;
+    private volatile long maxDurationMs;
+    private volatile long lastLagMs;
+    private volatile LocalDateTime lastRunAt;
+
+    public JobRunStats(String jobName) {
+        this.jobName = jobName;
+    }
+
+    void recordRun(long durationMs, long lagMs, boolean failed) {
+        runs.incrementAndGet();
+        if (failed) failures.incrementAndGet();
+        lastDurationMs = durationMs;
+        if (durationMs > maxDurationMs) maxDurationMs = durationMs;
+        lastLagMs = lagMs;
+        lastRunAt = LocalDateTime.now();
+    }
+
+    void recordSkipped() { skipped.incrementAndGet(); }
+
+    void recordLeaseLost() { leasesLost.incrementAndGet(); }
+
+    public String getJobName() { return jobName; }
+    public long getRuns() { return runs.get(); }
+    public long getFailures() { return failures.get(); }
+    public long getSkipped() { return skipped.get(); }
+    public long getLeasesLost() { return leasesLost.get(); }
+    public long getLastDurationMs() { return lastDurationMs; }
+    public long getMaxDurationMs() { return maxDurationMs; }
+    public long getLastLagMs() { return lastLagMs; }
+    public LocalDateTime getLastRunAt() { return lastRunAt; }
+}
@@ -0,0 +1,190 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.Model.JobLease;
+import com.resolveit.resloveitbackend.repository.JobLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs {@link ClusterJob}s so that each job (or job partition) executes on only one node.
+ * Ownership is a row in job_leases: a node takes an expired lease with a conditional UPDATE,
+ * keeps it alive with heartbeats while the job runs and releases it when done. A release leaves
+ * leaseUntil at the next due time, so the job runs once per interval across the cluster rather
+ * than once per node, whichever node's tick comes first. Every
+ * acquisition bumps the fencing token, so a node that stalled past its lease can no longer
+ * heartbeat or release and its job sees {@link JobContext#checkLease()} fail. Lease expiry is
+ * always judged by the database clock, so skewed node clocks cannot make a live lease look free.
+ */
+@Component
+public class LeaseJobScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaseJobScheduler.class);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobLeaseRepository leaseRepository;
+    private final List<ClusterJob> jobs;
+    private final boolean enabled;
+    private final Duration leaseDuration;
+    // What the database adds to its clock; whole seconds, rounded up so it never undercuts leaseDuration
+    private final long leaseSeconds;
+    private final String nodeId;
+
+    private final Map<String, JobRunStats> stats = new ConcurrentHashMap<>();
+    private final Set<String> knownLeases = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    public LeaseJobScheduler(JobLeaseRepository leaseRepository,
+                             List<ClusterJob> jobs,
+                             @Value("${app.jobs.enabled:true}") boolean enabled,
+                             @Value("${app.jobs.lease-duration-ms:60000}") long leaseDurationMs,
+                             @Value("${app.cluster.node-id:}") String nodeId) {
+        this.leaseRepository = leaseRepository;
+        this.jobs = jobs;
+        this.enabled = enabled;
+        this.leaseDuration = Duration.ofMillis(leaseDurationMs);
+        this.leaseSeconds = Math.max(1, (leaseDurationMs + 999) / 1000);
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+        jobs.forEach(j -> stats.put(j.name(), new JobRunStats(j.name())));
+        taskScheduler.setPoolSize(Math.max(2, jobs.size() + 1));
+        taskScheduler.setThreadNamePrefix("cluster-job-");
+        taskScheduler.setDaemon(true);
+        taskScheduler.initialize();
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Cluster jobs disabled on node {}", nodeId);
+            return;
+        }
+        for (ClusterJob job : jobs) {
+            // Random initial delay so nodes started together do not all race for the same lease
+            long jitterMs = ThreadLocalRandom.current().nextLong(Math.max(1, job.interval().toMillis() / 10));
+            taskScheduler.scheduleWithFixedDelay(() -> tick(job),
+                    java.time.Instant.now().plusMillis(jitterMs), job.interval());
+            log.info("Scheduled cluster job {} every {} ({} partition(s)) on node {}",
+                    job.name(), job.interval(), job.partitions(), nodeId);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        taskScheduler.shutdown();
+    }
+
+    void tick(ClusterJob job) {
+        int partitions = Math.max(1, job.partitions());
+        // Start at a random partition so concurrent nodes spread over different slices
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            String leaseName = partitions == 1 ? job.name() : job.name() + "#" + partition;
+            try {
+                runIfLeased(job, leaseName, partition, partitions);
+            } catch (Exception ex) {
+                log.error("Cluster job {} failed to coordinate lease {}: {}", job.name(), leaseName, ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private void runIfLeased(ClusterJob job, String leaseName, int partition, int partitions) {
+        JobRunStats jobStats = stats.get(job.name());
+        ensureLeaseRow(leaseName);
+
+        // Monotonic local deadline for the lease: taken before the UPDATE, so it never outlives the
+        // database's own leaseUntil, and immune to wall-clock differences between nodes
+        AtomicLong heldUntilNanos = new AtomicLong(System.nanoTime() + leaseDuration.toNanos());
+        if (leaseRepository.tryAcquire(leaseName, nodeId, leaseSeconds) == 0) {
+            jobStats.recordSkipped();
+            return;
+        }
+        JobLease lease = leaseRepository.findById(leaseName).orElseThrow();
+        long token = lease.getFencingToken();
+
+        long lagMs = 0;
+        if (lease.getLastCompletedAt() != null && lease.getLastStartedAt() != null) {
+            LocalDateTime due = lease.getLastCompletedAt().plus(job.interval());
+            lagMs = Math.max(0, Duration.between(due, lease.getLastStartedAt()).toMillis());
+        }
+
+        AtomicBoolean held = new AtomicBoolean(true);
+        ScheduledFuture<?> heartbeat = taskScheduler.scheduleAtFixedRate(() -> {
+            long beatStart = System.nanoTime();
+            if (!held.get()) return;
+            if (leaseRepository.heartbeat(leaseName, nodeId, token, leaseSeconds) == 0) {
+                held.set(false);
+                jobStats.recordLeaseLost();
+                log.warn("Lost lease {} (fencing token {}) on node {}", leaseName, token, nodeId);
+            } else {
+                heldUntilNanos.set(beatStart + leaseDuration.toNanos());
+            }
+        }, java.time.Instant.now().plus(leaseDuration.dividedBy(3)), leaseDuration.dividedBy(3));
+        // A heartbeat that stalls past the deadline means another node may already have taken over
+        BooleanSupplier leaseHeld = () -> held.get() && System.nanoTime() - heldUntilNanos.get() < 0;
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            job.run(new JobContext(leaseName, partition, partitions, token, leaseHeld));
+        } catch (Exception ex) {
+            failed = true;
+            log.error("Cluster job {} failed on lease {}: {}", job.name(), leaseName, ex.getMessage(), ex);
+        } finally {
+            heartbeat.cancel(false);
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            jobStats.recordRun(durationMs, lagMs, failed);
+            if (held.get()) {
+                // Whole seconds, rounded down: a node ticking exactly one interval later must find it due
+                leaseRepository.release(leaseName, nodeId, token, durationMs, job.interval().toSeconds());
+            }
+        }
+    }
+
+    private void ensureLeaseRow(String leaseName) {
+        if (knownLeases.contains(leaseName)) return;
+        if (!leaseRepository.existsById(leaseName)) {
+            try {
+                leaseRepository.saveAndFlush(new JobLease(leaseName, EPOCH));
+            } catch (DataIntegrityViolationException ignored) {
+                // another node created it first
+            }
+        }
+        knownLeases.add(leaseName);
+    }
+
+    public String getNodeId() { return nodeId; }
+
+    public Collection<JobRunStats> getStats() { return stats.values(); }
+}
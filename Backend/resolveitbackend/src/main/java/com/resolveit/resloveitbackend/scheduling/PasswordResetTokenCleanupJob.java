@@ -0,0 +1,38 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.repository.PasswordResetTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Removes expired password reset tokens
+@Component
+public class PasswordResetTokenCleanupJob implements ClusterJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordResetTokenCleanupJob.class);
+
+    private final PasswordResetTokenRepository tokenRepository;
+    private final Duration interval;
+
+    public PasswordResetTokenCleanupJob(PasswordResetTokenRepository tokenRepository,
+                                        @Value("${app.jobs.reset-token-cleanup.interval-ms:900000}") long intervalMs) {
+        this.tokenRepository = tokenRepository;
+        this.interval = Duration.ofMillis(intervalMs);
+    }
+
+    @Override
+    public String name() { return "reset-token-cleanup"; }
+
+    @Override
+    public Duration interval() { return interval; }
+
+    @Override
+    public void run(JobContext context) {
+        int removed = tokenRepository.deleteExpired(LocalDateTime.now());
+        if (removed > 0) log.info("Removed {} expired password reset tokens", removed);
+    }
+}
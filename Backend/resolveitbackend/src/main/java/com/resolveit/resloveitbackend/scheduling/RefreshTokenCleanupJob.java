@@ -0,0 +1,38 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Removes expired refresh tokens, used ones included (their family has expired or moved on)
+@Component
+public class RefreshTokenCleanupJob implements ClusterJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenCleanupJob.class);
+
+    private final RefreshTokenRepository tokenRepository;
+    private final Duration interval;
+
+    public RefreshTokenCleanupJob(RefreshTokenRepository tokenRepository,
+                                  @Value("${app.jobs.refresh-token-cleanup.interval-ms:900000}") long intervalMs) {
+        this.tokenRepository = tokenRepository;
+        this.interval = Duration.ofMillis(intervalMs);
+    }
+
+    @Override
+    public String name() { return "refresh-token-cleanup"; }
+
+    @Override
+    public Duration interval() { return interval; }
+
+    @Override
+    public void run(JobContext context) {
+        int removed = tokenRepository.deleteExpired(LocalDateTime.now());
+        if (removed > 0) log.info("Removed {} expired refresh tokens", removed);
+    }
+}
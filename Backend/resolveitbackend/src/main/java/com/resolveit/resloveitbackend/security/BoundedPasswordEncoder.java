@@ -0,0 +1,126 @@
+package com.resolveit.resloveitbackend.security;
+
+import com.resolveit.resloveitbackend.exception.AuthOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the delegate (BCrypt, ~50-100ms of CPU per call) on a small fixed pool so a burst of logins
+ * or registrations can use at most that many cores; request threads only wait. Beyond the queue
+ * capacity, or once a call has waited longer than maxWait, callers get {@link AuthOverloadedException}
+ * (429 with a Retry-After estimated from the backlog) instead of queueing behind the burst.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long maxWaitNanos;
+    // Moving average of one hash, for Retry-After
+    private final AtomicLong avgHashNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(100));
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedExpired;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMs,
+                                  MeterRegistry registry) {
+        this.delegate = delegate;
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.threads = threads > 0 ? Math.min(threads, cores) : Math.max(1, cores / 2);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        String name = "resolveit.auth.hashing";
+        this.encodeTimer = Timer.builder(name).tag("op", "encode").register(registry);
+        this.matchesTimer = Timer.builder(name).tag("op", "matches").register(registry);
+        this.waitTimer = Timer.builder(name + ".wait").description("Time queued before hashing").register(registry);
+        this.rejectedQueueFull = Counter.builder(name + ".rejected").tag("reason", "queue-full").register(registry);
+        this.rejectedExpired = Counter.builder(name + ".rejected").tag("reason", "waited-too-long").register(registry);
+        Gauge.builder(name + ".queue.depth", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder(name + ".active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> hash, Timer timer) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitTimer.record(started - queuedAt, TimeUnit.NANOSECONDS);
+                // The caller has likely given up (or will be told to retry anyway); don't spend a core on it
+                if (started - queuedAt > maxWaitNanos) {
+                    rejectedExpired.increment();
+                    throw overloaded();
+                }
+                try {
+                    return hash.call();
+                } finally {
+                    long took = System.nanoTime() - started;
+                    timer.record(took, TimeUnit.NANOSECONDS);
+                    avgHashNanos.accumulateAndGet(took, (avg, sample) -> avg + (sample - avg) / 10);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedQueueFull.increment();
+            throw overloaded();
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        }
+    }
+
+    private AuthOverloadedException overloaded() {
+        long backlogNanos = (executor.getQueue().size() + threads) * avgHashNanos.get() / threads;
+        long retryAfter = Math.min(30, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(backlogNanos) + 1));
+        return new AuthOverloadedException("Too many sign-in attempts in progress. Please retry shortly.", retryAfter);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -9,6 +9,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -24,6 +26,9 @@ import java.util.Optional;
 
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    // Per-request lines are INFO and sampled by request id in logback-spring.xml; problems are WARN and always kept
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
+
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final OfficerRepository officerRepository;
@@ -48,16 +53,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         // Debugging logs: show incoming request and auth header presence
-        System.out.println("[JWT] Incoming " + request.getMethod() + " " + request.getRequestURI() + " Authorization header present=" + hasBearer + " tokenPresent=" + (token != null));
+        log.info("[JWT] Incoming {} {} Authorization header present={} tokenPresent={}",
+                request.getMethod(), request.getRequestURI(), hasBearer, token != null);
 
-        if (token != null && jwtUtil.validate(token)
-                && SecurityContextHolder.getContext().getAuthentication() == null) {
+        boolean valid = token != null && jwtUtil.validate(token);
+        boolean authAlready = SecurityContextHolder.getContext().getAuthentication() != null;
+        if (valid && !authAlready) {
 
             Claims claims = jwtUtil.getClaims(token);
             String email = claims.getSubject();
             String roleFromToken = claims.get("role", String.class);
 
-            System.out.println("[JWT] token valid for subject=" + email + " roleFromToken=" + roleFromToken);
+            log.debug("[JWT] token valid for subject={} roleFromToken={}", email, roleFromToken);
 
             var details = new WebAuthenticationDetailsSource().buildDetails(request);
 
@@ -66,7 +73,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
                 String role = (roleFromToken != null) ? roleFromToken : "ROLE_" + user.getRole().name();
-                System.out.println("[JWT] Authenticated as User: " + email + " role=" + role);
+                log.info("[JWT] Authenticated as User: {} role={}", email, role);
                 GrantedAuthority authority = new SimpleGrantedAuthority(role);
 
                 var auth = new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of(authority));
@@ -86,21 +93,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                         role = roleFromToken; // JWT wins
                     }
 
-                    System.out.println("[JWT] Authenticated as Officer: " + officer.getEmail() + " role=" + role);
+                    log.info("[JWT] Authenticated as Officer: {} role={}", officer.getEmail(), role);
 
                     GrantedAuthority authority = new SimpleGrantedAuthority(role);
                     var auth = new UsernamePasswordAuthenticationToken(officer.getEmail(), null, List.of(authority));
                     auth.setDetails(details);
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 } else {
-                    System.out.println("[JWT] No user or officer found for email=" + email);
+                    log.warn("[JWT] No user or officer found for email={}", email);
                 }
             }
         } else if (token != null) {
-            System.out.println("[JWT] Token present but invalid or authentication already set: valid=" + jwtUtil.validate(token) + " authAlready=" + (SecurityContextHolder.getContext().getAuthentication() != null));
+            log.warn("[JWT] Token present but invalid or authentication already set: valid={} authAlready={}", valid, authAlready);
         } else {
             // no token found
-            // System.out.println("[JWT] No token provided"); // keep quiet to reduce logs on static assets
+            // log.debug("[JWT] No token provided"); // keep quiet to reduce logs on static assets
         }
 
         filterChain.doFilter(request, response);
@@ -2,6 +2,8 @@ package com.resolveit.resloveitbackend.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -11,13 +13,23 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
+
     private final Key key;
     private final long jwtExpirationMs;
 
+    // Access tokens are short-lived since clients renew them with a refresh token. The lifetime has its
+    // own key because every existing application.properties sets app.jwt.expiration-ms to the old,
+    // long session lifetime, which would override the new default
     public JwtUtil(@Value("${app.jwt.secret}") String secret,
-                   @Value("${app.jwt.expiration-ms}") long jwtExpirationMs) {
+                   @Value("${app.jwt.access-token-ttl-ms:900000}") long jwtExpirationMs,
+                   @Value("${app.jwt.expiration-ms:0}") long legacyExpirationMs) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpirationMs = jwtExpirationMs;
+        if (legacyExpirationMs > 0) {
+            log.warn("app.jwt.expiration-ms={} is ignored; access tokens now live app.jwt.access-token-ttl-ms={} "
+                    + "and sessions are kept by refresh tokens (app.auth.refresh.ttl-ms)", legacyExpirationMs, jwtExpirationMs);
+        }
     }
 
     public String generateToken(String subject, String role) {
@@ -32,6 +44,10 @@ public class JwtUtil {
                 .compact();
     }
 
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
     public boolean validate(String token) {
         try {
             Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
@@ -2,6 +2,9 @@ package com.resolveit.resloveitbackend.security;
 
 import com.resolveit.resloveitbackend.repository.OfficerRepository; 
 import com.resolveit.resloveitbackend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,7 +15,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -29,11 +31,15 @@ public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final OfficerRepository officerRepository; 
+    // -1 unless actuator runs on its own port (management.server.port)
+    private final int managementPort;
 
-    public SecurityConfig(JwtUtil jwtUtil, UserRepository userRepository, OfficerRepository officerRepository) {
+    public SecurityConfig(JwtUtil jwtUtil, UserRepository userRepository, OfficerRepository officerRepository,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.officerRepository = officerRepository;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -48,6 +54,8 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Re-dispatches of finished SSE streams carry no JWT; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/officers/register").permitAll()
@@ -63,6 +71,13 @@ public class SecurityConfig {
                 .requestMatchers("/api/complaints").authenticated()
                 .requestMatchers("/api/complaints/**").authenticated()
 
+                // Probes carry no JWT. Neither does the Prometheus scraper, so it is let in only on a separate,
+                // non-public management.server.port; on the application port the metrics need an ADMIN token
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+                        && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthFilter(), UsernamePasswordAuthenticationFilter.class)
@@ -72,9 +87,13 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // BCrypt on its own bounded pool (see BoundedPasswordEncoder); 0 threads = half the cores
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry registry,
+                                                  @Value("${app.auth.hashing.threads:0}") int threads,
+                                                  @Value("${app.auth.hashing.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${app.auth.hashing.max-wait-ms:2000}") long maxWaitMs) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, maxWaitMs, registry);
     }
 
     @Bean
@@ -93,7 +112,8 @@ public class SecurityConfig {
         ));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
-        config.setExposedHeaders(List.of("Authorization"));
+        // ETag must be exposed for the frontend to send it back as If-None-Match (see api.ts conditionalGet)
+        config.setExposedHeaders(List.of("Authorization", "ETag"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
@@ -6,6 +6,8 @@ import com.resolveit.resloveitbackend.dto.RegisterRequest;
 public interface AuthService {
     AuthResponse login(String email, String rawPassword);
     AuthResponse register(RegisterRequest req);
+    AuthResponse refresh(String refreshToken);
+    void logout(String refreshToken);
     void requestPasswordReset(String email);
     void resetPassword(String token, String newPassword);
 }
@@ -0,0 +1,10 @@
+package com.resolveit.resloveitbackend.service;
+
+import com.resolveit.resloveitbackend.dto.BulkResultDto;
+
+import java.util.List;
+
+public interface BulkComplaintService {
+    BulkResultDto updateStatus(List<Long> ids, String status, String requestedBy);
+    BulkResultDto assignOfficer(List<Long> ids, String officerEmail, String assignedBy);
+}
@@ -2,7 +2,22 @@ package com.resolveit.resloveitbackend.service;
 
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import com.resolveit.resloveitbackend.config.AsyncContextTaskDecorator;
+import com.resolveit.resloveitbackend.tracing.Span;
+import com.resolveit.resloveitbackend.tracing.Tracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -10,18 +25,71 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 @Service
 public class CloudinaryService {
 
+    private static final Logger log = LoggerFactory.getLogger(CloudinaryService.class);
+
     @Autowired
     private Cloudinary cloudinary;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private AsyncContextTaskDecorator taskDecorator;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.uploads.concurrency:4}")
+    private int uploadConcurrency;
+
+    // Not a bean: in Boot 3.3 any Executor bean replaces the applicationTaskExecutor used by @Async
+    private AsyncTaskExecutor uploadExecutor;
+
+    // Virtual threads in the vthreads profile (see VirtualThreadConfig), a small pool otherwise
+    @PostConstruct
+    void startUploadExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upload-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(uploadConcurrency);
+            executor.setTaskDecorator(taskDecorator);
+            uploadExecutor = executor;
+        } else {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix("upload-");
+            executor.setCorePoolSize(uploadConcurrency);
+            executor.setMaxPoolSize(uploadConcurrency);
+            executor.setTaskDecorator(taskDecorator);
+            executor.initialize();
+            uploadExecutor = executor;
+        }
+    }
+
+    @PreDestroy
+    void stopUploadExecutor() throws Exception {
+        if (uploadExecutor instanceof AutoCloseable closeable) closeable.close();
+        else if (uploadExecutor instanceof ThreadPoolTaskExecutor pool) pool.shutdown();
+    }
+
     public String uploadFile(MultipartFile file, String folder) throws IOException {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be empty");
         }
 
+        // Timed here rather than with @Timed: uploadFiles calls this method directly, bypassing the proxy
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = tracer.start("CloudinaryService.upload", "upload");
+        String outcome = "error";
+        Throwable failure = null;
         try {
             Map uploadResult = cloudinary.uploader().upload(
                 file.getBytes(),
@@ -31,9 +99,18 @@ public class CloudinaryService {
                     "public_id", System.currentTimeMillis() + "_" + file.getOriginalFilename()
                 )
             );
+            outcome = "success";
+            meterRegistry.summary("resolveit.cloudinary.upload.bytes").record(file.getSize());
             return (String) uploadResult.get("secure_url");
         } catch (IOException e) {
+            failure = e;
             throw new IOException("Failed to upload file to Cloudinary: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("resolveit.cloudinary.upload", "outcome", outcome));
+            tracer.end(span, failure);
         }
     }
 
@@ -43,14 +120,24 @@ public class CloudinaryService {
             return urls;
         }
 
+        // Uploads run in parallel; results keep the order of the files
+        List<Future<String>> pending = new ArrayList<>();
+        List<MultipartFile> submitted = new ArrayList<>();
         for (MultipartFile file : files) {
             if (!file.isEmpty()) {
-                try {
-                    String url = uploadFile(file, folder);
-                    urls.add(url);
-                } catch (IOException e) {
-                    System.err.println("Failed to upload file: " + file.getOriginalFilename() + " - " + e.getMessage());
-                }
+                pending.add(uploadExecutor.submit(() -> uploadFile(file, folder)));
+                submitted.add(file);
+            }
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                urls.add(pending.get(i).get());
+            } catch (ExecutionException e) {
+                log.warn("Failed to upload file: {} - {}", submitted.get(i).getOriginalFilename(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.forEach(f -> f.cancel(true));
+                throw new IOException("Interrupted while uploading files", e);
             }
         }
         return urls;
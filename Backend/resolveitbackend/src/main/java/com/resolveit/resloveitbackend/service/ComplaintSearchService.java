@@ -0,0 +1,10 @@
+package com.resolveit.resloveitbackend.service;
+
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.dto.ComplaintFilter;
+import com.resolveit.resloveitbackend.dto.OffsetPage;
+
+public interface ComplaintSearchService {
+    // sort is "field[,asc|desc]" on submittedAt or lastUpdatedAt; newest submissions first by default
+    OffsetPage<ComplaintDto> search(ComplaintFilter filter, int page, int size, String sort);
+}
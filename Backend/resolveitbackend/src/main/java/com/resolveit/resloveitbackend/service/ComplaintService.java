@@ -12,9 +12,25 @@ public interface ComplaintService {
     ComplaintDto escalateComplaint(Long id, int level, String reason, String requestedBy);
     ComplaintDto updateComplaintStatus(Long id, String status, String requestedBy);
     ComplaintDto updateComplaintPriority(Long id, String priority, String requestedBy);
+    ComplaintDto assignOfficer(Long complaintId, com.resolveit.resloveitbackend.Model.Officer officer, String assignedBy);
     com.resolveit.resloveitbackend.Model.ComplaintNote addNote(Long id, String content, boolean isPrivate, String createdBy);
     com.resolveit.resloveitbackend.Model.ComplaintReply addReply(Long id, String content, boolean isAdminReply, String createdBy);
 
+    // Status timeline, oldest first, one keyset page at a time
+    com.resolveit.resloveitbackend.dto.CursorPage<com.resolveit.resloveitbackend.dto.StatusHistoryDto> getStatusHistory(Long id, String cursor, int limit);
+
+    // Replies newer than afterId, oldest first; nextCursor is the id to pass as the next afterId.
+    // Within a thread ids follow commit order (see addReply), so nothing is ever missed below the cursor
+    com.resolveit.resloveitbackend.dto.CursorPage<com.resolveit.resloveitbackend.dto.ReplyDto> getRepliesAfter(Long id, Long afterId, int limit);
+
     // Get a single complaint by id
     ComplaintDto getComplaintById(Long id);
+
+    // Serialized complaint detail at version or newer, served from the detail cache when possible
+    byte[] getComplaintJson(Long id, long version);
+
+    // Validators for conditional GETs, computed without loading or mapping complaints
+    long getComplaintVersion(Long id);
+    String getAllComplaintsETag();
+    String getUserComplaintsETag(String email);
 }
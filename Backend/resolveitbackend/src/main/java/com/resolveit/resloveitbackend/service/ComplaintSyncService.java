@@ -0,0 +1,10 @@
+package com.resolveit.resloveitbackend.service;
+
+import com.resolveit.resloveitbackend.dto.ComplaintDeltaDto;
+
+// changedSince polling for clients that cannot keep an event stream open
+public interface ComplaintSyncService {
+    ComplaintDeltaDto getAllComplaintsChangedSince(String watermark);
+    ComplaintDeltaDto getUserComplaintsChangedSince(String email, String watermark);
+    ComplaintDeltaDto getOfficerComplaintsChangedSince(String email, String watermark);
+}
@@ -1,9 +1,14 @@
 package com.resolveit.resloveitbackend.service;
 
+import java.util.List;
+import java.util.Map;
+
 public interface EmailService {
     void sendSimpleMessage(String to, String subject, String text);
     void sendRegistrationEmail(String to, String name);
     void sendPasswordResetEmail(String to, String token);
     void sendStatusUpdateEmail(String to, String referenceNumber, String status);
     void sendEscalationEmail(String to, String referenceNumber, int level, String reason);
+    void sendStatusDigestEmails(Map<String, List<String>> referencesByRecipient, String status);
+    void sendAssignmentDigestEmail(String to, List<String> referenceNumbers);
 }
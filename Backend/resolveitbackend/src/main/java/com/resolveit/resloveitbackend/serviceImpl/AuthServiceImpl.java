@@ -3,10 +3,12 @@ package com.resolveit.resloveitbackend.serviceImpl;
 import com.resolveit.resloveitbackend.dto.AuthResponse;
 import com.resolveit.resloveitbackend.dto.RegisterRequest;
 import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.events.OfficerDirectoryChangedEvent;
 import com.resolveit.resloveitbackend.Model.*;
 import com.resolveit.resloveitbackend.repository.*;
 import com.resolveit.resloveitbackend.security.JwtUtil;
 import com.resolveit.resloveitbackend.service.AuthService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -37,6 +39,8 @@ public class AuthServiceImpl implements AuthService {
     private final JwtUtil jwtUtil;
     private final PasswordResetTokenRepository tokenRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenManager refreshTokens;
 
     public AuthServiceImpl(UserRepository userRepository,
                            OfficerRepository officerRepository,
@@ -44,7 +48,9 @@ public class AuthServiceImpl implements AuthService {
                            PasswordEncoder passwordEncoder,
                            JwtUtil jwtUtil,
                            PasswordResetTokenRepository tokenRepository,
-                           EmailService emailService) {
+                           EmailService emailService,
+                           ApplicationEventPublisher eventPublisher,
+                           RefreshTokenManager refreshTokens) {
         this.userRepository = userRepository;
         this.officerRepository = officerRepository;
         this.pendingOfficerRepository = pendingOfficerRepository;
@@ -52,14 +58,16 @@ public class AuthServiceImpl implements AuthService {
         this.jwtUtil = jwtUtil;
         this.tokenRepository = tokenRepository;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
+        this.refreshTokens = refreshTokens;
     }
 
     @Override
     public AuthResponse login(String email, String rawPassword) {
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<User> optionalUser = userRepository.findFreshByEmail(email);
 
         if (optionalUser.isEmpty()) {
-            Optional<Officer> officerOpt = officerRepository.findByEmail(email);
+            Optional<Officer> officerOpt = officerRepository.findFreshByEmail(email);
             if (officerOpt.isPresent()) {
                 Officer officer = officerOpt.get();
 
@@ -67,14 +75,7 @@ public class AuthServiceImpl implements AuthService {
                     throw new InvalidCredentialsException("Invalid password. Please try again.");
                 }
 
-                String token = jwtUtil.generateToken(officer.getEmail(), "ROLE_OFFICER");
-                return new AuthResponse(
-                        token,
-                        officer.getId(),
-                        officer.getEmail(),
-                        officer.getName(),
-                        "ROLE_OFFICER"
-                );
+                return signIn(officer.getId(), officer.getEmail(), officer.getName(), "ROLE_OFFICER");
             }
 
             throw new ResourceNotFoundException("No user found with this email. Please register first.");
@@ -87,7 +88,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         if (user.getRole() == Role.ROLE_OFFICER) {
-            boolean approved = officerRepository.findByEmail(user.getEmail()).isPresent();
+            boolean approved = officerRepository.findFreshByEmail(user.getEmail()).isPresent();
             if (!approved) {
                 throw new PendingApprovalException(
                         "Your officer account is pending admin approval. Please wait until approved."
@@ -95,14 +96,7 @@ public class AuthServiceImpl implements AuthService {
             }
         }
 
-        String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
-        return new AuthResponse(
-                token,
-                user.getId(),
-                user.getEmail(),
-                user.getName(),
-                user.getRole().name()
-        );
+        return signIn(user.getId(), user.getEmail(), user.getName(), user.getRole().name());
     }
 
     @Override
@@ -155,14 +149,35 @@ public class AuthServiceImpl implements AuthService {
         // Send welcome email (non-blocking)
         try { emailService.sendRegistrationEmail(newUser.getEmail(), newUser.getName()); } catch (Exception ignored) {}
 
-        String token = jwtUtil.generateToken(newUser.getEmail(), newUser.getRole().name());
-        return new AuthResponse(
-                token,
-                newUser.getId(),
-                newUser.getEmail(),
-                newUser.getName(),
-                newUser.getRole().name()
-        );
+        return signIn(newUser.getId(), newUser.getEmail(), newUser.getName(), newUser.getRole().name());
+    }
+
+    // No password check: one HMAC, the token row, the account's current role, one row written
+    @Override
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenManager.Issued next = refreshTokens.rotate(refreshToken, this::currentRole);
+        RefreshToken row = next.row();
+        return new AuthResponse(jwtUtil.generateToken(row.getEmail(), row.getRole()), next.token(),
+                jwtUtil.getExpirationMs() / 1000, row.getUserId(), row.getEmail(), row.getName(), row.getRole());
+    }
+
+    // The role login would grant today, or null if it would refuse; officers need their approved row
+    private String currentRole(String email) {
+        Optional<Role> role = userRepository.findRoleByEmail(email);
+        if (role.isEmpty()) return officerRepository.existsByEmail(email) ? "ROLE_OFFICER" : null;
+        if (role.get() == Role.ROLE_OFFICER && !officerRepository.existsByEmail(email)) return null;
+        return role.get().name();
+    }
+
+    @Override
+    public void logout(String refreshToken) {
+        refreshTokens.revoke(refreshToken);
+    }
+
+    private AuthResponse signIn(Long id, String email, String name, String role) {
+        RefreshTokenManager.Issued refresh = refreshTokens.issue(id, email, name, role);
+        return new AuthResponse(jwtUtil.generateToken(email, role), refresh.token(),
+                jwtUtil.getExpirationMs() / 1000, id, email, name, role);
     }
 
     @Override
@@ -190,23 +205,26 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String email = t.getEmail();
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userRepository.findFreshByEmail(email);
         if (userOpt.isPresent()) {
             User u = userOpt.get();
             u.setPassword(passwordEncoder.encode(newPassword));
             userRepository.save(u);
             // delete token within same transaction
             tokenRepository.deleteByToken(token);
+            refreshTokens.revokeAll(email);
             log.info("Password reset successfully for user {}", email);
             return;
         }
 
-        Optional<Officer> officerOpt = officerRepository.findByEmail(email);
+        Optional<Officer> officerOpt = officerRepository.findFreshByEmail(email);
         if (officerOpt.isPresent()) {
             Officer o = officerOpt.get();
             o.setPassword(passwordEncoder.encode(newPassword));
             officerRepository.save(o);
             tokenRepository.deleteByToken(token);
+            refreshTokens.revokeAll(email);
+            eventPublisher.publishEvent(new OfficerDirectoryChangedEvent(email));
             log.info("Password reset successfully for officer {}", email);
             return;
         }
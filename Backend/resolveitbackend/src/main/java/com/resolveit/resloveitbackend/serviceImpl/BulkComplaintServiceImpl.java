@@ -0,0 +1,305 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.ComplaintStatusHistory;
+import com.resolveit.resloveitbackend.Model.ComplaintTombstone;
+import com.resolveit.resloveitbackend.Model.Officer;
+import com.resolveit.resloveitbackend.dto.BulkResultDto;
+import com.resolveit.resloveitbackend.dto.BulkResultDto.Item;
+import com.resolveit.resloveitbackend.dto.BulkResultDto.Outcome;
+import com.resolveit.resloveitbackend.enums.ComplaintChangeType;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.events.ComplaintChange;
+import com.resolveit.resloveitbackend.events.ComplaintChangeEvent;
+import com.resolveit.resloveitbackend.exception.InvalidStatusException;
+import com.resolveit.resloveitbackend.exception.ResourceNotFoundException;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import com.resolveit.resloveitbackend.repository.ComplaintStatusHistoryRepository;
+import com.resolveit.resloveitbackend.repository.ComplaintTombstoneRepository;
+import com.resolveit.resloveitbackend.repository.OfficerRepository;
+import com.resolveit.resloveitbackend.service.BulkComplaintService;
+import com.resolveit.resloveitbackend.service.EmailService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Applies one status change or assignment to many complaints. Ids are processed in chunks,
+ * each chunk in its own transaction, with the complaint updates sent as a JDBC batch and the
+ * history rows persisted through Hibernate (pooled ids, so its insert batching applies). A failing chunk is reported as FAILED without rolling back earlier chunks.
+ * Rows are read without locks; each update carries the version that was read, and a row another
+ * request changed in between is left alone and reported as CONFLICT (no history, event or email).
+ * Notification emails are grouped per recipient and queued once after all chunks are done.
+ */
+@Service
+public class BulkComplaintServiceImpl implements BulkComplaintService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkComplaintServiceImpl.class);
+
+    private static final String SELECT_ROWS =
+            "select id, status, assigned_to, submitted_by, reference_number, version from complaints where id in (:ids)";
+    private static final String UPDATE_STATUS =
+            "update complaints set status = ?, last_updated_at = ?, last_updated_by = ?, version = version + 1 " +
+            "where id = ? and version = ?";
+    private static final String UPDATE_ASSIGNMENT =
+            "update complaints set assigned_to = ?, assigned_department = ?, status = ?, last_updated_at = ?, " +
+            "last_updated_by = ?, version = version + 1 where id = ? and version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintStatusHistoryRepository statusHistoryRepository;
+    private final ComplaintTombstoneRepository tombstoneRepository;
+    private final OfficerRepository officerRepository;
+    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkComplaintServiceImpl(JdbcTemplate jdbcTemplate,
+                                    NamedParameterJdbcTemplate namedJdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ComplaintRepository complaintRepository,
+                                    ComplaintStatusHistoryRepository statusHistoryRepository,
+                                    ComplaintTombstoneRepository tombstoneRepository,
+                                    OfficerRepository officerRepository,
+                                    EmailService emailService,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${app.bulk.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.complaintRepository = complaintRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.officerRepository = officerRepository;
+        this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    // Snapshot of the columns a bulk change needs to read
+    private record Row(long id, String status, String assignedTo, String submittedBy, String referenceNumber, long version) {}
+
+    private record ChunkOutcome(Map<Long, Row> present, List<Row> changed, Set<Long> conflicts) {}
+
+    @Override
+    public BulkResultDto updateStatus(List<Long> ids, String status, String requestedBy) {
+        ComplaintStatus newStatus;
+        try {
+            newStatus = ComplaintStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new InvalidStatusException("Invalid status value: " + status);
+        }
+        String notes = "Status updated to " + newStatus.name();
+
+        return run(ids, (chunk, now, changed, conflicts) -> {
+            List<Row> candidates = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            for (Row row : chunk) {
+                if (newStatus.name().equals(row.status())) continue;
+                candidates.add(row);
+                updates.add(new Object[] { newStatus.name(), now, requestedBy, row.id(), row.version() });
+            }
+            changed.addAll(applyVersioned(UPDATE_STATUS, candidates, updates, conflicts));
+            List<ComplaintStatusHistory> history = new ArrayList<>();
+            for (Row row : changed) {
+                history.add(historyRow(row, newStatus, now, requestedBy, notes));
+            }
+            insertHistory(history);
+            publishChanges(changed, row -> new ComplaintChange(row.id(), row.referenceNumber(),
+                    ComplaintChangeType.STATUS_CHANGED, newStatus, parseStatus(row.status()), row.submittedBy(),
+                    row.assignedTo(), null, now.toLocalDateTime()));
+        }, changed -> {
+            Map<String, List<String>> bySubmitter = groupBySubmitter(changed);
+            if (!bySubmitter.isEmpty()) emailService.sendStatusDigestEmails(bySubmitter, newStatus.name());
+        });
+    }
+
+    @Override
+    public BulkResultDto assignOfficer(List<Long> ids, String officerEmail, String assignedBy) {
+        Officer officer = officerRepository.findByEmail(officerEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("No approved officer found with email: " + officerEmail));
+        String assigned = ComplaintStatus.ASSIGNED.name();
+        String notes = "Assigned to " + officer.getName();
+
+        return run(ids, (chunk, now, changed, conflicts) -> {
+            List<Row> candidates = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            for (Row row : chunk) {
+                if (officerEmail.equals(row.assignedTo()) && assigned.equals(row.status())) continue;
+                candidates.add(row);
+                updates.add(new Object[] { officerEmail, officer.getDepartment(), assigned, now, assignedBy, row.id(), row.version() });
+            }
+            changed.addAll(applyVersioned(UPDATE_ASSIGNMENT, candidates, updates, conflicts));
+            List<ComplaintStatusHistory> history = new ArrayList<>();
+            List<ComplaintTombstone> tombstones = new ArrayList<>();
+            for (Row row : changed) {
+                history.add(historyRow(row, ComplaintStatus.ASSIGNED, now, assignedBy, notes));
+                if (row.assignedTo() != null && !officerEmail.equals(row.assignedTo())) {
+                    tombstones.add(new ComplaintTombstone(row.id(), row.assignedTo(), now.toLocalDateTime()));
+                }
+            }
+            insertHistory(history);
+            tombstoneRepository.saveAll(tombstones);
+            publishChanges(changed, row -> new ComplaintChange(row.id(), row.referenceNumber(),
+                    ComplaintChangeType.ASSIGNED, ComplaintStatus.ASSIGNED, parseStatus(row.status()), row.submittedBy(),
+                    officerEmail, officerEmail.equals(row.assignedTo()) ? null : row.assignedTo(), now.toLocalDateTime()));
+        }, changed -> {
+            if (changed.isEmpty()) return;
+            List<String> refs = changed.stream().map(Row::referenceNumber).toList();
+            emailService.sendAssignmentDigestEmail(officerEmail, refs);
+            emailService.sendStatusDigestEmails(groupBySubmitter(changed), assigned);
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(List<Row> chunk, Timestamp now, List<Row> changed, Set<Long> conflicts);
+    }
+
+    @FunctionalInterface
+    private interface Notifier {
+        void notify(List<Row> changed);
+    }
+
+    private BulkResultDto run(List<Long> ids, ChunkWriter writer, Notifier notifier) {
+        long start = System.currentTimeMillis();
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+
+        BulkResultDto result = new BulkResultDto();
+        result.setRequested(distinct.size());
+        List<Row> allChanged = new ArrayList<>();
+
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunkIds = distinct.subList(from, Math.min(distinct.size(), from + chunkSize));
+            try {
+                ChunkOutcome outcome = transactionTemplate.execute(tx -> {
+                    Map<Long, Row> rows = loadRows(chunkIds);
+                    List<Row> changed = new ArrayList<>();
+                    Set<Long> conflicts = new HashSet<>();
+                    writer.write(new ArrayList<>(rows.values()), Timestamp.valueOf(LocalDateTime.now()), changed, conflicts);
+                    return new ChunkOutcome(rows, changed, conflicts);
+                });
+                report(result, chunkIds, outcome);
+                allChanged.addAll(outcome.changed());
+            } catch (RuntimeException ex) {
+                log.error("Bulk chunk of {} complaint(s) starting at id {} failed: {}", chunkIds.size(), chunkIds.get(0), ex.getMessage(), ex);
+                chunkIds.forEach(id -> result.add(new Item(id, Outcome.FAILED, "Chunk rolled back: " + ex.getMessage())));
+            }
+        }
+
+        try {
+            notifier.notify(allChanged);
+        } catch (Exception ex) {
+            log.warn("Failed to queue bulk notifications: {}", ex.getMessage());
+        }
+        result.setDurationMs(System.currentTimeMillis() - start);
+        log.info("Bulk update of {} complaint(s): updated={} unchanged={} notFound={} conflicts={} failed={} in {}ms",
+                result.getRequested(), result.getUpdated(), result.getUnchanged(), result.getNotFound(),
+                result.getConflicts(), result.getFailed(), result.getDurationMs());
+        return result;
+    }
+
+    // Runs the version-checked batch and returns the rows it updated; a 0 count means the row's version moved.
+    // Connector/J reports one count per statement for UPDATE batches, rewritten or not.
+    private List<Row> applyVersioned(String sql, List<Row> candidates, List<Object[]> args, Set<Long> conflicts) {
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        List<Row> applied = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (counts[i] == 0) {
+                conflicts.add(candidates.get(i).id());
+            } else {
+                applied.add(candidates.get(i));
+            }
+        }
+        return applied;
+    }
+
+    // One event per chunk, delivered after that chunk's transaction commits
+    private void publishChanges(List<Row> changed, Function<Row, ComplaintChange> toChange) {
+        if (changed.isEmpty()) return;
+        eventPublisher.publishEvent(new ComplaintChangeEvent(changed.stream().map(toChange).toList()));
+    }
+
+    private static ComplaintStatus parseStatus(String status) {
+        try {
+            return status == null ? null : ComplaintStatus.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private ComplaintStatusHistory historyRow(Row row, ComplaintStatus status, Timestamp at, String by, String notes) {
+        ComplaintStatusHistory h = new ComplaintStatusHistory(complaintRepository.getReferenceById(row.id()), status, by, notes);
+        h.setChangedAt(at.toLocalDateTime());
+        return h;
+    }
+
+    // Flushed as batched inserts, then detached so a request-scoped persistence context does not grow per chunk
+    private void insertHistory(List<ComplaintStatusHistory> history) {
+        statusHistoryRepository.saveAll(history);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Map<Long, Row> loadRows(List<Long> ids) {
+        Map<Long, Row> rows = new HashMap<>();
+        namedJdbcTemplate.query(SELECT_ROWS, new MapSqlParameterSource("ids", ids), rs -> {
+            Row row = new Row(rs.getLong("id"), rs.getString("status"), rs.getString("assigned_to"),
+                    rs.getString("submitted_by"), rs.getString("reference_number"), rs.getLong("version"));
+            rows.put(row.id(), row);
+        });
+        return rows;
+    }
+
+    private void report(BulkResultDto result, List<Long> chunkIds, ChunkOutcome outcome) {
+        Set<Long> changedIds = new HashSet<>();
+        outcome.changed().forEach(r -> changedIds.add(r.id()));
+        for (Long id : chunkIds) {
+            if (!outcome.present().containsKey(id)) {
+                result.add(new Item(id, Outcome.NOT_FOUND, "Complaint not found"));
+            } else if (changedIds.contains(id)) {
+                result.add(new Item(id, Outcome.UPDATED, null));
+            } else if (outcome.conflicts().contains(id)) {
+                result.add(new Item(id, Outcome.CONFLICT, "Changed by another request during the bulk update; reload and retry"));
+            } else {
+                result.add(new Item(id, Outcome.UNCHANGED, null));
+            }
+        }
+    }
+
+    private Map<String, List<String>> groupBySubmitter(List<Row> rows) {
+        Map<String, List<String>> out = new LinkedHashMap<>();
+        for (Row r : rows) {
+            if (r.submittedBy() == null) continue;
+            out.computeIfAbsent(r.submittedBy(), k -> new ArrayList<>()).add(r.referenceNumber());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,220 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.events.ComplaintChange;
+import com.resolveit.resloveitbackend.events.ComplaintChangeEvent;
+import com.resolveit.resloveitbackend.mapper.ComplaintMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU of serialized complaint details (the JSON of {@link ComplaintMapper#toDetailDto}).
+ * Entries carry the row version they were built from and are only served to readers asking for
+ * that version or older, so a write that skips invalidation (e.g. a bulk JDBC update) still can
+ * never be served stale; invalidation on commit just frees the memory early. Concurrent misses
+ * for one id share a single load.
+ */
+@Component
+public class ComplaintDetailCache implements MeterBinder {
+
+    private record Entry(long version, byte[] json) {}
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // Access-ordered for LRU eviction; guarded by this
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+    private final Map<Long, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ComplaintDetailCache(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                @Value("${app.cache.complaint-detail.max-entries:2000}") int maxEntries,
+                                @Value("${app.cache.complaint-detail.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxBytes = Math.max(1, maxBytes);
+    }
+
+    /**
+     * Returns the JSON for complaint id at version or newer. On a miss the loader runs in its own
+     * read-only transaction, so threads waiting on another thread's load hold no connection.
+     */
+    public byte[] get(Long id, long version, Supplier<Complaint> loader) {
+        Entry cached = lookup(id);
+        if (cached != null && cached.version() >= version) {
+            hits.incrementAndGet();
+            return cached.json();
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loading.putIfAbsent(id, mine);
+        if (inFlight != null) {
+            coalesced.incrementAndGet();
+            Entry shared = await(inFlight);
+            // A load that started before our version was committed is too old; fetch our own
+            if (shared.version() >= version) return shared.json();
+            return load(id, loader).json();
+        }
+        try {
+            Entry loaded = load(id, loader);
+            mine.complete(loaded);
+            return loaded.json();
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(id, mine);
+        }
+    }
+
+    private Entry load(Long id, Supplier<Complaint> loader) {
+        long start = System.nanoTime();
+        try {
+            Entry entry = readTransaction.execute(tx -> {
+                Complaint c = loader.get();
+                return new Entry(c.getVersion(), serialize(c));
+            });
+            store(id, entry);
+            return entry;
+        } catch (RuntimeException ex) {
+            loadFailures.incrementAndGet();
+            throw ex;
+        } finally {
+            long took = System.nanoTime() - start;
+            loads.incrementAndGet();
+            loadNanos.addAndGet(took);
+            maxLoadNanos.accumulateAndGet(took, Math::max);
+        }
+    }
+
+    private byte[] serialize(Complaint c) {
+        try {
+            return objectMapper.writeValueAsBytes(ComplaintMapper.toDetailDto(c));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize complaint " + c.getId(), ex);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw ex;
+        }
+    }
+
+    private synchronized Entry lookup(Long id) {
+        return entries.get(id);
+    }
+
+    private synchronized void store(Long id, Entry entry) {
+        Entry previous = entries.get(id);
+        // Loads can finish out of order; never replace a newer version with an older one
+        if (previous != null && previous.version() > entry.version()) return;
+        if (previous != null) bytes -= previous.json().length;
+        entries.put(id, entry);
+        bytes += entry.json().length;
+
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            Map.Entry<Long, Entry> e = eldest.next();
+            if (e.getKey().equals(id)) continue;
+            bytes -= e.getValue().json().length;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized void invalidate(Long id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            bytes -= removed.json().length;
+            invalidations.incrementAndGet();
+        }
+    }
+
+    // Every complaint write path publishes a change event; drop those ids once it has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ComplaintChangeEvent event) {
+        for (ComplaintChange change : event.changes()) {
+            invalidate(change.id());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String name = "resolveit.cache.complaint_detail";
+        FunctionCounter.builder(name + ".requests", hits, AtomicLong::get).tag("result", "hit").register(registry);
+        FunctionCounter.builder(name + ".requests", misses, AtomicLong::get).tag("result", "miss").register(registry);
+        FunctionCounter.builder(name + ".coalesced", coalesced, AtomicLong::get).register(registry);
+        FunctionCounter.builder(name + ".evictions", evictions, AtomicLong::get).register(registry);
+        FunctionCounter.builder(name + ".invalidations", invalidations, AtomicLong::get).register(registry);
+        FunctionTimer.builder(name + ".load", this, c -> c.loads.get(), c -> c.loadNanos.get(), TimeUnit.NANOSECONDS)
+                .register(registry);
+        Gauge.builder(name + ".size", this, c -> c.sizeSnapshot()).register(registry);
+    }
+
+    private synchronized int sizeSnapshot() {
+        return entries.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        long h = hits.get();
+        long m = misses.get();
+        long l = loads.get();
+        synchronized (this) {
+            out.put("entries", entries.size());
+            out.put("bytes", bytes);
+        }
+        out.put("maxEntries", maxEntries);
+        out.put("maxBytes", maxBytes);
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("hitRatio", h + m == 0 ? 0.0 : (double) h / (h + m));
+        out.put("coalescedMisses", coalesced.get());
+        out.put("loads", l);
+        out.put("loadFailures", loadFailures.get());
+        out.put("avgLoadMs", l == 0 ? 0.0 : loadNanos.get() / 1_000_000.0 / l);
+        out.put("maxLoadMs", maxLoadNanos.get() / 1_000_000.0);
+        out.put("evictions", evictions.get());
+        out.put("invalidations", invalidations.get());
+        return out;
+    }
+}
@@ -0,0 +1,34 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.events.ComplaintEmailEvent;
+import com.resolveit.resloveitbackend.service.EmailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Sends the emails complaint writes owe, after their transaction commits (the sends themselves are @Async)
+@Component
+public class ComplaintEmailNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintEmailNotifier.class);
+
+    private final EmailService emailService;
+
+    public ComplaintEmailNotifier(EmailService emailService) {
+        this.emailService = emailService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmail(ComplaintEmailEvent event) {
+        if (event.to() == null) return;
+        try {
+            switch (event.kind()) {
+                case STATUS_UPDATE -> emailService.sendStatusUpdateEmail(event.to(), event.referenceNumber(), event.status());
+                case ESCALATION -> emailService.sendEscalationEmail(event.to(), event.referenceNumber(), event.level(), event.reason());
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to queue {} email for {}: {}", event.kind(), event.referenceNumber(), ex.getMessage());
+        }
+    }
+}
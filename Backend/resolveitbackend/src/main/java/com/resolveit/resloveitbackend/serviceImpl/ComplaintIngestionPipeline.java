@@ -0,0 +1,197 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.exception.IngestionOverloadedException;
+import com.resolveit.resloveitbackend.exception.SubmissionPendingException;
+import com.resolveit.resloveitbackend.serviceImpl.ComplaintSubmissionWriter.Result;
+import com.resolveit.resloveitbackend.serviceImpl.ComplaintSubmissionWriter.Submission;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group commit for complaint submissions. Callers enqueue into a bounded queue and block on
+ * a future; a single writer thread drains up to maxBatch submissions (waiting at most
+ * maxWaitMs for more to arrive) and writes them in one transaction. Futures complete only
+ * after that commit, so a caller that gets a ComplaintDto back has a durable complaint,
+ * exactly as with a per-request transaction. If a batch fails to commit, its submissions
+ * are retried one transaction each so a single bad row cannot fail its neighbours.
+ * A caller that gives up (await timeout, interrupt) withdraws its submission if the writer has not
+ * picked it up yet and gets a retryable 503; if the writer already has it, the caller gets a 202
+ * SUBMISSION_PENDING instead, so clients never resubmit something that may still commit.
+ * <p>
+ * Off by default (app.ingestion.enabled). Batching only pays when several submissions are in flight,
+ * and below that the hand-off to the writer thread is pure added latency, so even when enabled a
+ * submission is written directly on the caller's thread unless at least minConcurrent submissions
+ * are in progress on this instance.
+ */
+@Component
+public class ComplaintIngestionPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintIngestionPipeline.class);
+
+    private final ComplaintSubmissionWriter writer;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitMs;
+    private final long offerTimeoutMs;
+    private final long awaitTimeoutMs;
+    private final int minConcurrent;
+    private final BlockingQueue<Pending> queue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ComplaintIngestionPipeline(ComplaintSubmissionWriter writer,
+                                      @Value("${app.ingestion.enabled:false}") boolean enabled,
+                                      @Value("${app.ingestion.max-batch:64}") int maxBatch,
+                                      @Value("${app.ingestion.max-wait-ms:5}") long maxWaitMs,
+                                      @Value("${app.ingestion.queue-capacity:2048}") int queueCapacity,
+                                      @Value("${app.ingestion.offer-timeout-ms:200}") long offerTimeoutMs,
+                                      @Value("${app.ingestion.await-timeout-ms:30000}") long awaitTimeoutMs,
+                                      @Value("${app.ingestion.min-concurrent:4}") int minConcurrent) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.maxWaitMs = maxWaitMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.minConcurrent = minConcurrent;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    private static final int QUEUED = 0, TAKEN = 1, WITHDRAWN = 2;
+
+    private record Pending(Submission submission, CompletableFuture<ComplaintDto> future, AtomicInteger state) {
+        // Exactly one of writer (take) and caller (withdraw) wins
+        boolean take() { return state.compareAndSet(QUEUED, TAKEN); }
+        boolean withdraw() { return state.compareAndSet(QUEUED, WITHDRAWN); }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        writerThread = new Thread(this::drainLoop, "complaint-ingestion");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(awaitTimeoutMs);
+        }
+    }
+
+    public boolean isEnabled() { return enabled && running; }
+
+    public int getQueueDepth() { return queue.size(); }
+
+    public ComplaintDto submit(Complaint complaint, String email) {
+        // Counts this submission too, so minConcurrent <= 1 always queues
+        try {
+            return inFlight.incrementAndGet() < minConcurrent
+                    ? writer.writeOne(complaint, email)
+                    : enqueue(complaint, email);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private ComplaintDto enqueue(Complaint complaint, String email) {
+        Pending pending = new Pending(new Submission(complaint, email), new CompletableFuture<>(), new AtomicInteger(QUEUED));
+        try {
+            if (!queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IngestionOverloadedException("Too many submissions in progress. Please retry shortly.");
+            }
+            return pending.future().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw giveUp(pending);
+        } catch (TimeoutException ex) {
+            throw giveUp(pending);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private RuntimeException giveUp(Pending pending) {
+        if (pending.withdraw()) {
+            // Never written: safe for the client to submit again
+            queue.remove(pending);
+            return new IngestionOverloadedException("Submission could not be stored in time. Please retry shortly.");
+        }
+        log.warn("Caller gave up on a submission for {} that is already being written", pending.submission().email());
+        return new SubmissionPendingException(
+                "Your complaint is still being stored. Please check your complaints before submitting again.");
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                // stop() interrupts us; the loop condition drains whatever is still queued
+            }
+            // Drop submissions whose caller already gave up; the rest can no longer be withdrawn
+            batch.removeIf(p -> !p.take());
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            List<Result> results = writer.writeBatch(batch.stream().map(Pending::submission).toList());
+            for (int i = 0; i < batch.size(); i++) complete(batch.get(i), results.get(i));
+            if (log.isDebugEnabled()) log.debug("Committed {} submission(s) in one transaction", batch.size());
+        } catch (RuntimeException batchError) {
+            log.warn("Batch of {} submission(s) failed ({}); retrying individually", batch.size(), batchError.getMessage());
+            for (Pending p : batch) {
+                try {
+                    complete(p, writer.writeBatch(List.of(p.submission())).get(0));
+                } catch (RuntimeException ex) {
+                    p.future().completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    private void complete(Pending pending, Result result) {
+        if (result.error() != null) pending.future().completeExceptionally(result.error());
+        else pending.future().complete(result.dto());
+    }
+}
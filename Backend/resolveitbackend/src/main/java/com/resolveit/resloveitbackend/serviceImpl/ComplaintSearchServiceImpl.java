@@ -0,0 +1,123 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.dto.ComplaintFilter;
+import com.resolveit.resloveitbackend.dto.OffsetPage;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.exception.InvalidFilterException;
+import com.resolveit.resloveitbackend.exception.ResourceNotFoundException;
+import com.resolveit.resloveitbackend.mapper.ComplaintMapper;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.service.ComplaintSearchService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.resolveit.resloveitbackend.repository.ComplaintSpecifications.*;
+
+@Service
+public class ComplaintSearchServiceImpl implements ComplaintSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // Only columns with a supporting index; see V8__complaint_search_indexes.sql
+    private static final Set<String> SORTABLE = Set.of("submittedAt", "lastUpdatedAt");
+
+    private final ComplaintRepository complaintRepository;
+    private final UserRepository userRepository;
+
+    public ComplaintSearchServiceImpl(ComplaintRepository complaintRepository, UserRepository userRepository) {
+        this.complaintRepository = complaintRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public OffsetPage<ComplaintDto> search(ComplaintFilter filter, int page, int size, String sort) {
+        if (page < 0) throw new InvalidFilterException("page must not be negative");
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Page<Complaint> result = complaintRepository.findAll(toSpecification(filter),
+                PageRequest.of(page, pageSize, parseSort(sort)));
+        List<ComplaintDto> items = result.getContent().stream().map(ComplaintMapper::toDto).toList();
+        return new OffsetPage<>(items, page, pageSize, result.getTotalElements());
+    }
+
+    private Specification<Complaint> toSpecification(ComplaintFilter f) {
+        List<Specification<Complaint>> specs = new ArrayList<>();
+        if (notBlank(f.getStatus())) specs.add(statusIn(parseEnums(f.getStatus(), ComplaintStatus.class, "status")));
+        if (notBlank(f.getPriority())) specs.add(priorityIn(parseEnums(f.getPriority(), ComplaintPriority.class, "priority")));
+        if (notBlank(f.getCategory())) specs.add(category(f.getCategory().trim()));
+        if (notBlank(f.getDepartment())) specs.add(department(f.getDepartment().trim()));
+        if (f.getEscalated() != null) specs.add(escalated(f.getEscalated()));
+        if (notBlank(f.getAssignedTo())) specs.add(assignedTo(f.getAssignedTo().trim()));
+        if (notBlank(f.getUserEmail())) {
+            User user = userRepository.findByEmail(f.getUserEmail())
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + f.getUserEmail()));
+            specs.add(ownedBy(user));
+        }
+        if (notBlank(f.getFrom())) specs.add(submittedFrom(parseBound(f.getFrom(), LocalDate::atStartOfDay, "from")));
+        // A bare date as the upper bound includes that whole day
+        if (notBlank(f.getTo())) specs.add(submittedBefore(parseBound(f.getTo(), d -> d.plusDays(1).atStartOfDay(), "to")));
+        return Specification.allOf(specs);
+    }
+
+    private static Sort parseSort(String sort) {
+        if (!notBlank(sort)) return Sort.by(Sort.Direction.DESC, "submittedAt", "id");
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        if (!SORTABLE.contains(field)) {
+            throw new InvalidFilterException("Cannot sort by " + field + "; supported: " + SORTABLE);
+        }
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new InvalidFilterException("Sort direction must be asc or desc"));
+        }
+        // id breaks ties so pages do not overlap when timestamps are equal
+        return Sort.by(direction, field, "id");
+    }
+
+    // Accepts both API (IN_PROGRESS) and frontend (in-progress) spellings
+    private static <E extends Enum<E>> Set<E> parseEnums(String csv, Class<E> type, String name) {
+        Set<E> values = EnumSet.noneOf(type);
+        for (String raw : csv.split(",")) {
+            if (raw.isBlank()) continue;
+            try {
+                values.add(Enum.valueOf(type, raw.trim().toUpperCase().replace('-', '_')));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidFilterException("Unknown " + name + ": " + raw.trim());
+            }
+        }
+        if (values.isEmpty()) throw new InvalidFilterException(name + " must not be empty");
+        return values;
+    }
+
+    private static LocalDateTime parseBound(String value, Function<LocalDate, LocalDateTime> fromDate, String name) {
+        String v = value.trim();
+        try {
+            return v.length() <= 10 ? fromDate.apply(LocalDate.parse(v)) : LocalDateTime.parse(v);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidFilterException(name + " must be an ISO date or date-time: " + v);
+        }
+    }
+
+    private static boolean notBlank(String s) {
+        return s != null && !s.isBlank();
+    }
+}
@@ -4,11 +4,21 @@ import com.resolveit.resloveitbackend.Model.Complaint;
 import com.resolveit.resloveitbackend.Model.ComplaintNote;
 import com.resolveit.resloveitbackend.Model.ComplaintReply;
 import com.resolveit.resloveitbackend.Model.ComplaintStatusHistory;
+import com.resolveit.resloveitbackend.Model.ComplaintTombstone;
 import com.resolveit.resloveitbackend.Model.Officer;
 import com.resolveit.resloveitbackend.Model.User;
 import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.dto.CursorPage;
+import com.resolveit.resloveitbackend.dto.ReplyDto;
+import com.resolveit.resloveitbackend.dto.StatusHistoryDto;
+import com.resolveit.resloveitbackend.enums.ComplaintChangeType;
 import com.resolveit.resloveitbackend.enums.ComplaintPriority;
 import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.events.ComplaintChange;
+import com.resolveit.resloveitbackend.events.ComplaintChangeEvent;
+import com.resolveit.resloveitbackend.events.ComplaintEmailEvent;
+import com.resolveit.resloveitbackend.events.ComplaintRouting;
+import com.resolveit.resloveitbackend.exception.InvalidCursorException;
 import com.resolveit.resloveitbackend.exception.ResourceNotFoundException;
 import com.resolveit.resloveitbackend.exception.InvalidStatusException;
 import com.resolveit.resloveitbackend.exception.InvalidPriorityException;
@@ -17,192 +27,229 @@ import com.resolveit.resloveitbackend.repository.ComplaintRepository;
 import com.resolveit.resloveitbackend.repository.ComplaintNoteRepository;
 import com.resolveit.resloveitbackend.repository.ComplaintReplyRepository;
 import com.resolveit.resloveitbackend.repository.ComplaintStatusHistoryRepository;
-import com.resolveit.resloveitbackend.repository.OfficerRepository;
+import com.resolveit.resloveitbackend.repository.ComplaintTombstoneRepository;
 import com.resolveit.resloveitbackend.repository.UserRepository;
 import com.resolveit.resloveitbackend.service.ComplaintService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
+// One timer per method (tags class/method); latency percentiles on /actuator/prometheus
+@Timed(value = "resolveit.complaint.service", percentiles = {0.5, 0.95, 0.99})
 @Service
 public class ComplaintServiceImpl implements ComplaintService {
 
+    private static final int MAX_HISTORY_PAGE = 100;
+    private static final int MAX_REPLY_PAGE = 200;
+
     private final ComplaintRepository complaintRepository;
     private final ComplaintNoteRepository noteRepository;
     private final ComplaintReplyRepository replyRepository;
     private final ComplaintStatusHistoryRepository statusHistoryRepository;
     private final UserRepository userRepository;
-    private final OfficerRepository officerRepository;
     private final com.resolveit.resloveitbackend.service.EmailService emailService;
+    private final ComplaintSubmissionWriter submissionWriter;
+    private final ComplaintIngestionPipeline ingestionPipeline;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ComplaintTombstoneRepository tombstoneRepository;
+    private final ComplaintDetailCache detailCache;
 
     public ComplaintServiceImpl(ComplaintRepository complaintRepository, ComplaintNoteRepository noteRepository,
             ComplaintReplyRepository replyRepository, ComplaintStatusHistoryRepository statusHistoryRepository,
             UserRepository userRepository,
-            OfficerRepository officerRepository, com.resolveit.resloveitbackend.service.EmailService emailService) {
+            com.resolveit.resloveitbackend.service.EmailService emailService,
+            ComplaintSubmissionWriter submissionWriter, ComplaintIngestionPipeline ingestionPipeline,
+            OptimisticRetryExecutor retryExecutor, ApplicationEventPublisher eventPublisher,
+            ComplaintTombstoneRepository tombstoneRepository, ComplaintDetailCache detailCache) {
         this.complaintRepository = complaintRepository;
         this.noteRepository = noteRepository;
         this.replyRepository = replyRepository;
         this.statusHistoryRepository = statusHistoryRepository;
         this.userRepository = userRepository;
-        this.officerRepository = officerRepository;
         this.emailService = emailService;
+        this.submissionWriter = submissionWriter;
+        this.ingestionPipeline = ingestionPipeline;
+        this.retryExecutor = retryExecutor;
+        this.eventPublisher = eventPublisher;
+        this.tombstoneRepository = tombstoneRepository;
+        this.detailCache = detailCache;
     }
 
-    // Generate government reference number (GRV-YYYYMMDD-XXXXX)
-    // Generates a unique reference without relying on DB id (date + random 5-digit)
-    private String generateReferenceNumber() {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        String datePart = LocalDateTime.now().format(dateFormatter);
-        int random = java.util.concurrent.ThreadLocalRandom.current().nextInt(0, 100000);
-        String idPart = String.format("%05d", random);
-        return "GRV-" + datePart + "-" + idPart;
-    }
-
-    @Transactional
     @Override
     public ComplaintDto submitComplaint(Complaint complaint, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        // Under load, submissions are group-committed; either way the dto is only returned after commit
+        ComplaintDto saved = ingestionPipeline.isEnabled()
+                ? ingestionPipeline.submit(complaint, email)
+                : submissionWriter.writeOne(complaint, email);
+        eventPublisher.publishEvent(ComplaintChangeEvent.of(
+                ComplaintChange.of(saved, ComplaintChangeType.SUBMITTED, null, null)));
 
-        complaint.setUser(user);
-        complaint.setSubmittedBy(email);
-
-        if (complaint.getStatus() == null) {
-            complaint.setStatus(ComplaintStatus.PENDING);
-        }
-
-        if (complaint.getSubmittedAt() == null) {
-            complaint.setSubmittedAt(LocalDateTime.now());
-        }
-
-        // Generate reference number before saving to satisfy NOT NULL constraint
-        complaint.setReferenceNumber(generateReferenceNumber());
-
-        Complaint saved = complaintRepository.save(complaint);
-
-        // Save initial status history (PENDING)
-        ComplaintStatusHistory initialHistory = new ComplaintStatusHistory(saved, saved.getStatus(), email, "Initial submission");
-        statusHistoryRepository.save(initialHistory);
-
-        // Auto-assign if HIGH or URGENT priority and at least one officer exists
-        if (saved.getPriority() == ComplaintPriority.HIGH || saved.getPriority() == ComplaintPriority.URGENT) {
-            List<Officer> officers = officerRepository.findAll();
-            if (!officers.isEmpty()) {
-                // Find officer with least assigned complaints (simple availability heuristic)
-                Officer best = officers.stream()
-                        .min(Comparator.comparingInt(o -> complaintRepository.findByAssignedTo(o.getEmail()).size()))
-                        .orElse(null);
-
-                if (best != null) {
-                    saved.setAssignedTo(best.getEmail());
-                    saved.setAssignedDepartment(best.getDepartment()); //Set department
-                    saved.setStatus(ComplaintStatus.ASSIGNED);
-                    saved = complaintRepository.save(saved);
-                    
-                    // Save status history for ASSIGNED
-                    ComplaintStatusHistory assignedHistory = new ComplaintStatusHistory(saved, ComplaintStatus.ASSIGNED, "system", "Auto-assigned to " + best.getName());
-                    statusHistoryRepository.save(assignedHistory);
-                }
-            }
-        } else {
-            saved = complaintRepository.save(saved);
-        }
         // Notify submitter that complaint was created (best-effort)
         try {
             emailService.sendStatusUpdateEmail(saved.getSubmittedBy(), saved.getReferenceNumber(),
                     saved.getStatus().name());
         } catch (Exception ignored) {
         }
-        return ComplaintMapper.toDto(saved);
+        return saved;
     }
 
+    // The response is the row as read before the targeted UPDATE with the written columns applied,
+    // so the write path never reloads the complaint; emails go out after commit (ComplaintEmailNotifier)
+    @Transactional
     @Override
     public ComplaintDto escalateComplaint(Long id, int level, String reason, String requestedBy) {
-        Complaint c = complaintRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
-        c.setEscalated(true);
-        c.setEscalationLevel(level);
-        c.setEscalationReason(reason);
-        c.setEscalatedAt(LocalDateTime.now());
-        c.setLastUpdatedAt(LocalDateTime.now());
-        c.setLastUpdatedBy(requestedBy);
-        Complaint saved = complaintRepository.save(c);
-
-        // Send emails to submitter and assigned officer (if any)
-        try {
-            if (saved.getSubmittedBy() != null)
-                emailService.sendEscalationEmail(saved.getSubmittedBy(), saved.getReferenceNumber(), level, reason);
-            if (saved.getAssignedTo() != null)
-                emailService.sendEscalationEmail(saved.getAssignedTo(), saved.getReferenceNumber(), level, reason);
-        } catch (Exception ignored) {
+        ComplaintDto dto = ComplaintMapper.toDto(loadComplaint(id));
+        LocalDateTime now = LocalDateTime.now();
+        if (complaintRepository.updateEscalation(id, level, reason, now, requestedBy) == 0) {
+            throw new ResourceNotFoundException("Complaint not found");
         }
+        dto.setEscalated(true);
+        dto.setEscalationLevel(level);
+        dto.setEscalationReason(reason);
+        dto.setEscalatedAt(now);
+        dto.setLastUpdatedAt(now);
+        dto.setLastUpdatedBy(requestedBy);
+        eventPublisher.publishEvent(ComplaintChangeEvent.of(
+                ComplaintChange.of(dto, ComplaintChangeType.ESCALATED, null, null)));
 
-        return ComplaintMapper.toDto(saved);
+        // Submitter and assigned officer (if any)
+        eventPublisher.publishEvent(ComplaintEmailEvent.escalation(dto.getSubmittedBy(), dto.getReferenceNumber(), level, reason));
+        eventPublisher.publishEvent(ComplaintEmailEvent.escalation(dto.getAssignedTo(), dto.getReferenceNumber(), level, reason));
+        return dto;
     }
 
+    @Transactional
     @Override
     public ComplaintDto updateComplaintStatus(Long id, String status, String requestedBy) {
-        Complaint c = complaintRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
+        ComplaintStatus newStatus;
         try {
-            ComplaintStatus newStatus = ComplaintStatus.valueOf(status);
-            c.setStatus(newStatus);
-            c.setLastUpdatedAt(LocalDateTime.now());
-            c.setLastUpdatedBy(requestedBy);
-            Complaint saved = complaintRepository.save(c);
-            
-            // Save status history
-            ComplaintStatusHistory history = new ComplaintStatusHistory(saved, newStatus, requestedBy, "Status updated to " + newStatus.name());
-            statusHistoryRepository.save(history);
-            
-            try {
-                if (saved.getSubmittedBy() != null)
-                    emailService.sendStatusUpdateEmail(saved.getSubmittedBy(), saved.getReferenceNumber(),
-                            saved.getStatus().name());
-            } catch (Exception ignored) {
-            }
-            return ComplaintMapper.toDto(saved);
+            newStatus = ComplaintStatus.valueOf(status);
         } catch (IllegalArgumentException ex) {
             throw new InvalidStatusException("Invalid status value: " + status);
         }
+        ComplaintDto dto = ComplaintMapper.toDto(loadComplaint(id));
+        ComplaintStatus previousStatus = dto.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        if (complaintRepository.updateStatus(id, newStatus, now, requestedBy) == 0) {
+            throw new ResourceNotFoundException("Complaint not found");
+        }
+        dto.setStatus(newStatus);
+        dto.setLastUpdatedAt(now);
+        dto.setLastUpdatedBy(requestedBy);
+        eventPublisher.publishEvent(ComplaintChangeEvent.of(
+                ComplaintChange.of(dto, ComplaintChangeType.STATUS_CHANGED, previousStatus, null)));
+
+        // Save status history
+        ComplaintStatusHistory history = new ComplaintStatusHistory(complaintRepository.getReferenceById(id), newStatus, requestedBy, "Status updated to " + newStatus.name());
+        statusHistoryRepository.save(history);
+
+        eventPublisher.publishEvent(ComplaintEmailEvent.statusUpdate(dto.getSubmittedBy(), dto.getReferenceNumber(), newStatus.name()));
+        return dto;
     }
 
     @Override
     public ComplaintDto updateComplaintPriority(Long id, String priority, String requestedBy) {
-        Complaint c = complaintRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
+        ComplaintPriority newPriority;
         try {
-            c.setPriority(ComplaintPriority.valueOf(priority.toUpperCase()));
+            newPriority = ComplaintPriority.valueOf(priority.toUpperCase());
         } catch (IllegalArgumentException ex) {
             throw new InvalidPriorityException("Invalid priority value: " + priority);
         }
-        c.setLastUpdatedAt(LocalDateTime.now());
-        c.setLastUpdatedBy(requestedBy);
-        Complaint saved = complaintRepository.save(c);
-        return ComplaintMapper.toDto(saved);
+        return retryExecutor.execute("updatePriority", () -> {
+            Complaint c = loadComplaint(id);
+            c.setPriority(newPriority);
+            c.setLastUpdatedAt(LocalDateTime.now());
+            c.setLastUpdatedBy(requestedBy);
+            ComplaintDto dto = ComplaintMapper.toDto(complaintRepository.saveAndFlush(c));
+            eventPublisher.publishEvent(ComplaintChangeEvent.of(
+                    ComplaintChange.of(dto, ComplaintChangeType.PRIORITY_CHANGED, null, null)));
+            return dto;
+        });
     }
 
+    @Override
+    public ComplaintDto assignOfficer(Long complaintId, Officer officer, String assignedBy) {
+        ComplaintDto dto = retryExecutor.execute("assignOfficer", () -> {
+            Complaint c = loadComplaint(complaintId);
+            ComplaintStatus previousStatus = c.getStatus();
+            String previousAssignee = c.getAssignedTo();
+            c.setAssignedTo(officer.getEmail());
+            c.setStatus(ComplaintStatus.ASSIGNED);
+            c.setLastUpdatedAt(LocalDateTime.now());
+            c.setLastUpdatedBy(assignedBy);
+            Complaint saved = complaintRepository.saveAndFlush(c);
+            if (previousAssignee != null && !previousAssignee.equals(officer.getEmail())) {
+                tombstoneRepository.save(new ComplaintTombstone(complaintId, previousAssignee, c.getLastUpdatedAt()));
+            }
+            statusHistoryRepository.save(new ComplaintStatusHistory(saved, ComplaintStatus.ASSIGNED,
+                    assignedBy, "Assigned to " + officer.getName()));
+            ComplaintDto assigned = ComplaintMapper.toDto(saved);
+            // Published inside the attempt's transaction, so only the attempt that commits is delivered
+            eventPublisher.publishEvent(ComplaintChangeEvent.of(ComplaintChange.of(assigned, ComplaintChangeType.ASSIGNED,
+                    previousStatus, officer.getEmail().equals(previousAssignee) ? null : previousAssignee)));
+            return assigned;
+        });
+
+        // Notify only once the assignment has actually committed
+        try {
+            emailService.sendSimpleMessage(officer.getEmail(), "New Assignment: " + dto.getReferenceNumber(),
+                    "You have been assigned complaint " + dto.getReferenceNumber());
+            if (dto.getSubmittedBy() != null)
+                emailService.sendStatusUpdateEmail(dto.getSubmittedBy(), dto.getReferenceNumber(), dto.getStatus().name());
+        } catch (Exception ignored) {
+        }
+        return dto;
+    }
+
+    @Transactional
     @Override
     public ComplaintNote addNote(Long id, String content, boolean isPrivate, String createdBy) {
-        Complaint c = complaintRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
-        ComplaintNote note = new ComplaintNote(content, createdBy, isPrivate, c);
+        ComplaintNote note = new ComplaintNote(content, createdBy, isPrivate, complaintReference(id));
         return noteRepository.save(note);
     }
 
+    @Transactional
     @Override
     public ComplaintReply addReply(Long id, String content, boolean isAdminReply,
             String createdBy) {
-        Complaint c = complaintRepository.findById(id)
+        // Touch first: the complaint row lock it takes is held to commit, so replies to one complaint
+        // get their AUTO_INCREMENT id only after the previous reply committed. Ids then follow commit
+        // order within a thread and ?after=<id> cannot skip a reply that commits late.
+        if (complaintRepository.touch(id, LocalDateTime.now(), createdBy) == 0) {
+            throw new ResourceNotFoundException("Complaint not found");
+        }
+        ComplaintRouting routing = complaintRepository.findRoutingById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
         ComplaintReply reply = new ComplaintReply(
-                content, createdBy, isAdminReply, c);
-        return replyRepository.save(reply);
+                content, createdBy, isAdminReply, complaintRepository.getReferenceById(id));
+        ComplaintReply saved = replyRepository.saveAndFlush(reply);
+        eventPublisher.publishEvent(ComplaintChangeEvent.of(
+                ComplaintChange.of(routing, ComplaintChangeType.REPLY_ADDED, routing.status())));
+        return saved;
+    }
+
+    // Child rows only need the foreign key: check the id exists and use an uninitialized proxy
+    // rather than loading the complaint (and its TEXT description) just to link to it
+    private Complaint complaintReference(Long id) {
+        if (!complaintRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Complaint not found");
+        }
+        return complaintRepository.getReferenceById(id);
+    }
+
+    private Complaint loadComplaint(Long id) {
+        return complaintRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
     }
 
     @Transactional(readOnly = true)
@@ -224,11 +271,98 @@ public class ComplaintServiceImpl implements ComplaintService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<StatusHistoryDto> getStatusHistory(Long id, String cursor, int limit) {
+        if (!complaintRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Complaint not found");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE));
+        // Fetch one extra row to learn whether another page exists without a count query
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<ComplaintStatusHistory> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = statusHistoryRepository.findTimelineStart(id, page);
+        } else {
+            String[] key = decodeHistoryCursor(cursor);
+            rows = statusHistoryRepository.findTimelineAfter(id, LocalDateTime.parse(key[0]), Long.valueOf(key[1]), page);
+        }
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ComplaintStatusHistory last = rows.get(size - 1);
+            next = encodeHistoryCursor(last.getChangedAt(), last.getId());
+        }
+        return new CursorPage<>(rows.stream().map(ComplaintMapper::toHistoryDto).collect(Collectors.toList()), next);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<ReplyDto> getRepliesAfter(Long id, Long afterId, int limit) {
+        if (!complaintRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Complaint not found");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_REPLY_PAGE));
+        long after = afterId == null ? 0L : afterId;
+        List<ComplaintReply> rows = replyRepository.findThreadAfter(id, after, PageRequest.of(0, size + 1));
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = String.valueOf(rows.get(size - 1).getId());
+        }
+        return new CursorPage<>(rows.stream().map(ComplaintMapper::toReplyDto).collect(Collectors.toList()), next);
+    }
+
+    private static String encodeHistoryCursor(LocalDateTime changedAt, Long id) {
+        String raw = changedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeHistoryCursor(String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (key.length != 2) throw new IllegalArgumentException();
+            LocalDateTime.parse(key[0]);
+            Long.parseLong(key[1]);
+            return key;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid history cursor");
+        }
+    }
+
     @Transactional(readOnly = true)
     @Override
     public ComplaintDto getComplaintById(Long id) {
         Complaint c = complaintRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
-        return ComplaintMapper.toDto(c);
+        return ComplaintMapper.toDetailDto(c);
+    }
+
+    // Not transactional: only the thread that actually loads opens a transaction (see ComplaintDetailCache)
+    @Override
+    public byte[] getComplaintJson(Long id, long version) {
+        return detailCache.get(id, version, () -> loadComplaint(id));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long getComplaintVersion(Long id) {
+        return complaintRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Complaint not found"));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String getAllComplaintsETag() {
+        return complaintRepository.findListVersion().etag();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String getUserComplaintsETag(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        return complaintRepository.findListVersionByUser(user).etag();
     }
 }
@@ -0,0 +1,186 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.ComplaintStatusHistory;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.dto.OfficerDto;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.exception.ResourceNotFoundException;
+import com.resolveit.resloveitbackend.mapper.ComplaintMapper;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import com.resolveit.resloveitbackend.repository.ComplaintStatusHistoryRepository;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists new complaints (complaint row, initial history and auto-assignment). Used directly
+ * for single submissions and by {@link ComplaintIngestionPipeline} to write a micro-batch of
+ * submissions in one transaction.
+ */
+@Component
+public class ComplaintSubmissionWriter {
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintStatusHistoryRepository statusHistoryRepository;
+    private final UserRepository userRepository;
+    private final OfficerDirectory officerDirectory;
+
+    public ComplaintSubmissionWriter(ComplaintRepository complaintRepository,
+                                     ComplaintStatusHistoryRepository statusHistoryRepository,
+                                     UserRepository userRepository,
+                                     OfficerDirectory officerDirectory) {
+        this.complaintRepository = complaintRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.userRepository = userRepository;
+        this.officerDirectory = officerDirectory;
+    }
+
+    public record Submission(Complaint complaint, String email) {}
+
+    // Either dto or error is set; errors here only concern that one submission
+    public record Result(ComplaintDto dto, RuntimeException error) {}
+
+    @Transactional
+    public ComplaintDto writeOne(Complaint complaint, String email) {
+        Result result = writeBatch(List.of(new Submission(complaint, email))).get(0);
+        if (result.error() != null) throw result.error();
+        return result.dto();
+    }
+
+    /**
+     * Writes all submissions in the caller's transaction. Per-item validation failures are
+     * returned as results; database failures propagate and roll back the whole batch.
+     */
+    @Transactional
+    public List<Result> writeBatch(List<Submission> submissions) {
+        List<Result> results = new ArrayList<>(submissions.size());
+        Workload workload = null;
+        for (Submission s : submissions) {
+            User user = userRepository.findByEmail(s.email()).orElse(null);
+            if (user == null) {
+                results.add(new Result(null, new ResourceNotFoundException("User not found with email: " + s.email())));
+                continue;
+            }
+            Complaint complaint = freshCopy(s.complaint());
+            if (needsAutoAssign(complaint) && workload == null) {
+                workload = loadWorkload();
+            }
+            results.add(new Result(persist(complaint, user, s.email(), workload), null));
+        }
+        return results;
+    }
+
+    // Writes work on a copy so a rolled-back batch leaves the caller's object reusable for a retry
+    private Complaint freshCopy(Complaint src) {
+        Complaint c = new Complaint();
+        c.setTitle(src.getTitle());
+        c.setDescription(src.getDescription());
+        c.setCategory(src.getCategory());
+        c.setIsAnonymous(src.getIsAnonymous());
+        c.setPriority(src.getPriority());
+        c.setStatus(src.getStatus());
+        c.setSubmittedAt(src.getSubmittedAt());
+        if (src.getAttachments() != null) c.setAttachments(new ArrayList<>(src.getAttachments()));
+        return c;
+    }
+
+    private boolean needsAutoAssign(Complaint c) {
+        return c.getPriority() == ComplaintPriority.HIGH || c.getPriority() == ComplaintPriority.URGENT;
+    }
+
+    private ComplaintDto persist(Complaint complaint, User user, String email, Workload workload) {
+        complaint.setUser(user);
+        complaint.setSubmittedBy(email);
+
+        if (complaint.getStatus() == null) {
+            complaint.setStatus(ComplaintStatus.PENDING);
+        }
+
+        if (complaint.getSubmittedAt() == null) {
+            complaint.setSubmittedAt(LocalDateTime.now());
+        }
+        // Creation counts as the first change, so delta sync (changedSince) picks up new complaints
+        complaint.setLastUpdatedAt(LocalDateTime.now());
+        complaint.setLastUpdatedBy(email);
+
+        // Generate reference number before saving to satisfy NOT NULL constraint
+        complaint.setReferenceNumber(generateReferenceNumber());
+
+        Complaint saved = complaintRepository.save(complaint);
+
+        // Save initial status history (PENDING)
+        statusHistoryRepository.save(new ComplaintStatusHistory(saved, saved.getStatus(), email, "Initial submission"));
+
+        // Auto-assign if HIGH or URGENT priority and at least one officer exists
+        if (workload != null) {
+            OfficerDto best = workload.leastLoaded();
+            if (best != null) {
+                saved.setAssignedTo(best.getEmail());
+                saved.setAssignedDepartment(best.getDepartment()); //Set department
+                saved.setStatus(ComplaintStatus.ASSIGNED);
+                workload.assigned(best);
+
+                // Save status history for ASSIGNED
+                statusHistoryRepository.save(new ComplaintStatusHistory(saved, ComplaintStatus.ASSIGNED, "system", "Auto-assigned to " + best.getName()));
+            }
+        }
+        return ComplaintMapper.toDto(saved);
+    }
+
+    // Generate government reference number (GRV-YYYYMMDD-XXXXX)
+    // Generates a unique reference without relying on DB id (date + random 5-digit)
+    private String generateReferenceNumber() {
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        String datePart = LocalDateTime.now().format(dateFormatter);
+        int random = java.util.concurrent.ThreadLocalRandom.current().nextInt(0, 100000);
+        String idPart = String.format("%05d", random);
+        return "GRV-" + datePart + "-" + idPart;
+    }
+
+    private Workload loadWorkload() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : complaintRepository.countAssignedByOfficer()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return new Workload(officerDirectory.all(), counts);
+    }
+
+    // Assigned-complaint counts per officer, kept current while a batch assigns complaints
+    private static final class Workload {
+        private final List<OfficerDto> officers;
+        private final Map<String, Long> counts;
+
+        Workload(List<OfficerDto> officers, Map<String, Long> counts) {
+            this.officers = officers;
+            this.counts = counts;
+        }
+
+        // Find officer with least assigned complaints (simple availability heuristic)
+        OfficerDto leastLoaded() {
+            OfficerDto best = null;
+            long bestCount = Long.MAX_VALUE;
+            for (OfficerDto o : officers) {
+                long count = counts.getOrDefault(o.getEmail(), 0L);
+                if (count < bestCount) {
+                    best = o;
+                    bestCount = count;
+                }
+            }
+            return best;
+        }
+
+        void assigned(OfficerDto officer) {
+            counts.merge(officer.getEmail(), 1L, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.dto.ComplaintDeltaDto;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.exception.InvalidCursorException;
+import com.resolveit.resloveitbackend.exception.ResourceNotFoundException;
+import com.resolveit.resloveitbackend.mapper.ComplaintMapper;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import com.resolveit.resloveitbackend.repository.ComplaintTombstoneRepository;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.service.ComplaintSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "what changed since watermark W" from the last_updated_at indexes.
+ * <p>
+ * W is never a clock reading: it is the newest last_updated_at the answering database held at the
+ * time of the poll, so a replica that is behind hands out a correspondingly older W. Write paths stamp
+ * last_updated_at with app time before commit, so a row stamped just before W can still become
+ * visible after the poll; each poll re-reads an overlap window before W to cover that commit
+ * latency and clock skew between nodes. The overlap is kept above the replica lag threshold plus a
+ * commit allowance, so it also holds if a poll lands on a replica that is further behind than the
+ * previous one. Clients upsert by id, so the repeats are harmless.
+ * <p>
+ * Complaints that leave a list come back as removedIds from complaint_tombstones: reassignment
+ * (officer), and deletion for every audience (written by the V11 trigger).
+ */
+@Service
+public class ComplaintSyncServiceImpl implements ComplaintSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintSyncServiceImpl.class);
+
+    // Tombstone audience for the admin list, which sees every complaint
+    public static final String ALL_AUDIENCE = "*";
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintTombstoneRepository tombstoneRepository;
+    private final UserRepository userRepository;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public ComplaintSyncServiceImpl(ComplaintRepository complaintRepository,
+                                    ComplaintTombstoneRepository tombstoneRepository,
+                                    UserRepository userRepository,
+                                    @Value("${app.sync.overlap-ms:15000}") long overlapMs,
+                                    @Value("${app.sync.commit-allowance-ms:10000}") long commitAllowanceMs,
+                                    @Value("${app.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+                                    @Value("${app.sync.tombstone-retention-hours:72}") long retentionHours) {
+        this.complaintRepository = complaintRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.userRepository = userRepository;
+        long minOverlapMs = maxLagMs + commitAllowanceMs;
+        if (overlapMs < minOverlapMs) {
+            log.warn("app.sync.overlap-ms={} is below replica max-lag-ms + commit allowance; using {}", overlapMs, minOverlapMs);
+            overlapMs = minOverlapMs;
+        }
+        this.overlap = Duration.ofMillis(overlapMs);
+        this.tombstoneRetention = Duration.ofHours(retentionHours);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ComplaintDeltaDto getAllComplaintsChangedSince(String watermark) {
+        return delta(watermark, complaintRepository::findByLastUpdatedAtGreaterThanEqual,
+                complaintRepository::findAll, ALL_AUDIENCE);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ComplaintDeltaDto getUserComplaintsChangedSince(String email, String watermark) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        return delta(watermark, since -> complaintRepository.findByUserAndLastUpdatedAtGreaterThanEqual(user, since),
+                () -> complaintRepository.findByUser(user), user.getEmail());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ComplaintDeltaDto getOfficerComplaintsChangedSince(String email, String watermark) {
+        return delta(watermark, since -> complaintRepository.findByAssignedToAndLastUpdatedAtGreaterThanEqual(email, since),
+                () -> complaintRepository.findByAssignedTo(email), email);
+    }
+
+    private ComplaintDeltaDto delta(String watermark,
+                                    Function<LocalDateTime, List<Complaint>> changedSince,
+                                    Supplier<List<Complaint>> all,
+                                    String tombstoneAudience) {
+        LocalDateTime since = parseWatermark(watermark);
+        // Read in the same transaction (and snapshot) as the rows below
+        LocalDateTime latest = complaintRepository.findLatestUpdate();
+
+        // Tombstones older than the retention window are gone, so removals can no longer be listed
+        if (since.isBefore(LocalDateTime.now().minus(tombstoneRetention))) {
+            List<ComplaintDto> items = toDtos(all.get());
+            return new ComplaintDeltaDto(items, List.of(), next(since, latest).toString(), true);
+        }
+
+        LocalDateTime from = since.minus(overlap);
+        List<ComplaintDto> items = toDtos(changedSince.apply(from));
+        // A complaint reassigned away and back again is still in the list
+        Set<Long> present = items.stream().map(ComplaintDto::getId).collect(Collectors.toSet());
+        List<Long> removed = tombstoneRepository.findRemovedSince(tombstoneAudience, from).stream()
+                .filter(id -> !present.contains(id))
+                .toList();
+        return new ComplaintDeltaDto(items, removed, next(since, latest).toString(), false);
+    }
+
+    // Never moves backwards: an empty table, or a replica behind the one that answered last time, keeps W
+    private static LocalDateTime next(LocalDateTime since, LocalDateTime latest) {
+        return latest != null && latest.isAfter(since) ? latest : since;
+    }
+
+    private static List<ComplaintDto> toDtos(List<Complaint> complaints) {
+        return complaints.stream().map(ComplaintMapper::toDto).collect(Collectors.toList());
+    }
+
+    private static LocalDateTime parseWatermark(String watermark) {
+        try {
+            return LocalDateTime.parse(watermark);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid changedSince watermark: " + watermark);
+        }
+    }
+}
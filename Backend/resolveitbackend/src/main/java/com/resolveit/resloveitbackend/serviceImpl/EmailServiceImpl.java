@@ -12,6 +12,9 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 
 @Service
 public class EmailServiceImpl implements EmailService {
@@ -152,8 +155,72 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
+    // Bulk operations queue a single task that sends one summary email per recipient
+    @Override
+    @Async
+    public void sendStatusDigestEmails(Map<String, List<String>> referencesByRecipient, String status) {
+        for (Map.Entry<String, List<String>> entry : referencesByRecipient.entrySet()) {
+            String to = entry.getKey();
+            List<String> refs = entry.getValue();
+            if (refs.size() == 1) {
+                sendStatusUpdateEmail(to, refs.get(0), status);
+                continue;
+            }
+            sendHtml(to, "📋 " + refs.size() + " complaints - Status Updated",
+                    getStatusDigestTemplate(refs, status), "status digest");
+        }
+    }
+
+    @Override
+    @Async
+    public void sendAssignmentDigestEmail(String to, List<String> referenceNumbers) {
+        sendHtml(to, "New Assignments: " + referenceNumbers.size() + " complaint(s)",
+                getGenericTemplate("You have been assigned the following complaints:" + referenceList(referenceNumbers)),
+                "assignment digest");
+    }
+
+    private void sendHtml(String to, String subject, String htmlContent, String kind) {
+        if (mailSender == null) {
+            log.info("MailSender not configured; skipping {} email to {}", kind, to);
+            return;
+        }
+
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+            helper.setTo(to);
+            helper.setSubject(subject);
+            helper.setText(htmlContent, true);
+
+            mailSender.send(message);
+            log.info("Sent {} email to {} subject={}", kind, to, subject);
+        } catch (MessagingException ex) {
+            log.error("Failed to send {} email to {}: {}", kind, to, ex.getMessage());
+        }
+    }
+
     // ===== Email Template Methods =====
 
+    private String referenceList(List<String> referenceNumbers) {
+        StringBuilder sb = new StringBuilder("<ul>");
+        for (String ref : referenceNumbers) sb.append("<li><strong>#").append(ref).append("</strong></li>");
+        return sb.append("</ul>").toString();
+    }
+
+    private String getStatusDigestTemplate(List<String> referenceNumbers, String status) {
+        String statusColor = getStatusColor(status);
+        return getEmailTemplate(
+            "Complaints Status Updated",
+            "<p>Hi there,</p>" +
+            "<p>The following complaints have been updated to <strong style='color: " + statusColor + ";'>" +
+            getStatusEmoji(status) + " " + formatStatus(status) + "</strong>:</p>" +
+            referenceList(referenceNumbers) +
+            "<p>Log in to your account to view more details.</p>",
+            statusColor
+        );
+    }
+
     private String getGenericTemplate(String content) {
         return getEmailTemplate(
             "Message from ResolveIt",
@@ -0,0 +1,94 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.dto.OfficerDto;
+import com.resolveit.resloveitbackend.events.OfficerDirectoryChangedEvent;
+import com.resolveit.resloveitbackend.mapper.OfficerMapper;
+import com.resolveit.resloveitbackend.repository.OfficerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory copy of the approved officers, without credentials. Reads go to an immutable snapshot
+ * that is swapped whole on rebuild. Rebuilds are driven by OfficerDirectoryChangedEvent, published
+ * after an approval commits on this node; there is no age-based reload. An approval on another
+ * node is noticed by comparing the newest officer id (officers are only ever added, and nothing
+ * the directory holds changes afterwards) at most every app.officers.directory-check-ms, which
+ * costs one indexed max() and rebuilds only when it moved. Callers must treat the returned dtos
+ * as read-only.
+ */
+@Component
+public class OfficerDirectory {
+
+    public record Snapshot(List<OfficerDto> all, long newestId) {}
+
+    private final OfficerRepository officerRepository;
+    private final long checkMs;
+    private volatile Snapshot snapshot;
+    private volatile long checkedAtMillis;
+    // A lock rather than synchronized: rebuild queries the database, and a virtual thread blocking
+    // in JDBC inside a monitor pins its carrier thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public OfficerDirectory(OfficerRepository officerRepository,
+                            @Value("${app.officers.directory-check-ms:10000}") long checkMs) {
+        this.officerRepository = officerRepository;
+        this.checkMs = checkMs;
+    }
+
+    public List<OfficerDto> all() { return current().all(); }
+
+    public int size() { return current().all().size(); }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null || System.currentTimeMillis() - checkedAtMillis > checkMs) {
+            s = checkForNewOfficers(s);
+        }
+        return s;
+    }
+
+    // Only one thread checks; others that raced on the same snapshot get whatever it settled on
+    private Snapshot checkForNewOfficers(Snapshot seen) {
+        rebuildLock.lock();
+        try {
+            if (snapshot != seen) return snapshot;
+            if (seen != null && officerRepository.findNewestId() == seen.newestId()) {
+                checkedAtMillis = System.currentTimeMillis();
+                return seen;
+            }
+            return load();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public Snapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            return load();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        List<OfficerDto> all = officerRepository.findAll().stream()
+                .map(OfficerMapper::toDto)
+                .sorted(Comparator.comparing(OfficerDto::getId))
+                .toList();
+        long newestId = all.isEmpty() ? 0L : all.get(all.size() - 1).getId();
+        snapshot = new Snapshot(all, newestId);
+        checkedAtMillis = System.currentTimeMillis();
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(OfficerDirectoryChangedEvent event) {
+        rebuild();
+    }
+}
@@ -0,0 +1,89 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.exception.ConcurrentUpdateException;
+import jakarta.persistence.OptimisticLockException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write in its own transaction and re-runs it when the @Version check
+ * fails at flush/commit. Only use it for idempotent transitions (set status/priority/assignee
+ * to a value): each attempt re-reads the row, so a retry simply re-applies the change on top
+ * of whatever the concurrent writer committed. Callers must not already be in a transaction.
+ */
+@Component
+public class OptimisticRetryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetryExecutor.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Map<String, ConflictStats> stats = new ConcurrentHashMap<>();
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager,
+                                   @Value("${app.concurrency.max-attempts:3}") int maxAttempts,
+                                   @Value("${app.concurrency.backoff-ms:15}") long backoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        ConflictStats opStats = stats.computeIfAbsent(operation, ConflictStats::new);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transactionTemplate.execute(tx -> work.get());
+                if (attempt > 1) opStats.recoveredAfterRetry.incrementAndGet();
+                return result;
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                opStats.conflicts.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    opStats.exhausted.incrementAndGet();
+                    log.warn("{} gave up after {} conflicting attempts", operation, attempt);
+                    throw new ConcurrentUpdateException(
+                            "The complaint was modified concurrently. Please reload and try again.", ex);
+                }
+                log.debug("{} hit a concurrent update (attempt {}), retrying", operation, attempt);
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        // Jittered linear backoff keeps two colliding writers from retrying in lockstep
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Map<String, ConflictStats> getStats() { return stats; }
+
+    public static class ConflictStats {
+        private final String operation;
+        private final AtomicLong conflicts = new AtomicLong();
+        private final AtomicLong recoveredAfterRetry = new AtomicLong();
+        private final AtomicLong exhausted = new AtomicLong();
+
+        ConflictStats(String operation) { this.operation = operation; }
+
+        public String getOperation() { return operation; }
+        public long getConflicts() { return conflicts.get(); }
+        public long getRecoveredAfterRetry() { return recoveredAfterRetry.get(); }
+        public long getExhausted() { return exhausted.get(); }
+    }
+}
@@ -0,0 +1,134 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.RefreshToken;
+import com.resolveit.resloveitbackend.exception.InvalidRefreshTokenException;
+import com.resolveit.resloveitbackend.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Issues and rotates refresh tokens. A token is 32 random bytes; the table keeps only its
+ * HMAC-SHA256 under app.auth.refresh.secret, so a refresh costs one HMAC and indexed row lookups
+ * instead of a BCrypt verification, and a leaked table cannot be replayed. Every refresh spends the
+ * presented token; presenting a spent token again (a stolen copy, or a client that lost the
+ * response) revokes the whole family and forces a password login. A token spent less than
+ * app.auth.refresh.reuse-grace-ms ago is only rejected, since that is usually two tabs of the same
+ * browser refreshing at once and the other tab already holds the successor.
+ */
+@Component
+public class RefreshTokenManager {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenManager.class);
+
+    /** A freshly issued token and the row describing whom it belongs to. */
+    public record Issued(String token, RefreshToken row) {}
+
+    private final RefreshTokenRepository tokenRepository;
+    private final MeterRegistry registry;
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Duration reuseGrace;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenManager(RefreshTokenRepository tokenRepository, MeterRegistry registry,
+                               @Value("${app.auth.refresh.secret:${app.jwt.secret}}") String secret,
+                               @Value("${app.auth.refresh.ttl-ms:1209600000}") long ttlMs,
+                               @Value("${app.auth.refresh.reuse-grace-ms:10000}") long reuseGraceMs) {
+        this.tokenRepository = tokenRepository;
+        this.registry = registry;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.reuseGrace = Duration.ofMillis(reuseGraceMs);
+    }
+
+    /** Starts a new family at login or registration. */
+    @Transactional
+    public Issued issue(Long userId, String email, String name, String role) {
+        return issue(UUID.randomUUID().toString(), userId, email, name, role);
+    }
+
+    /**
+     * Spends the presented token and returns its successor. currentRole maps the account's email to
+     * the role it has now (null once the account is gone); when that no longer matches the role the
+     * family was issued with, the family is revoked and the user signs in again. Runs without
+     * rollback on rejection so a revoked family stays revoked.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Issued rotate(String token, Function<String, String> currentRole) {
+        RefreshToken current = tokenRepository.findByTokenHash(hash(token)).orElse(null);
+        if (current == null) throw rejected("unknown");
+        LocalDateTime now = LocalDateTime.now();
+        // markUsed returns 0 when a concurrent rotation claimed the token first
+        boolean spent = current.getUsedAt() != null || tokenRepository.markUsed(current.getId(), now) == 0;
+        if (spent && (current.getUsedAt() == null || current.getUsedAt().isAfter(now.minus(reuseGrace)))) {
+            throw rejected("superseded");
+        }
+        if (spent) {
+            int revoked = tokenRepository.deleteByFamily(current.getFamily());
+            log.warn("Refresh token reused for {}; revoked {} tokens in its family", current.getEmail(), revoked);
+            throw rejected("reused");
+        }
+        if (current.getExpiresAt().isBefore(now)) throw rejected("expired");
+        if (!Objects.equals(currentRole.apply(current.getEmail()), current.getRole())) {
+            int revoked = tokenRepository.deleteByFamily(current.getFamily());
+            log.info("Role of {} changed since sign-in; revoked {} tokens in its family", current.getEmail(), revoked);
+            throw rejected("role-changed");
+        }
+
+        registry.counter("resolveit.auth.refresh", "result", "rotated").increment();
+        return issue(current.getFamily(), current.getUserId(), current.getEmail(), current.getName(), current.getRole());
+    }
+
+    /** Logout: drops the presented token's family. Unknown tokens are ignored. */
+    @Transactional
+    public void revoke(String token) {
+        tokenRepository.findByTokenHash(hash(token))
+                .ifPresent(t -> tokenRepository.deleteByFamily(t.getFamily()));
+    }
+
+    /** Drops every session of an account, e.g. after a password reset. */
+    public void revokeAll(String email) {
+        tokenRepository.deleteByEmail(email);
+    }
+
+    private Issued issue(String family, Long userId, String email, String name, String role) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        RefreshToken row = tokenRepository.save(new RefreshToken(hash(token), family, userId, email, name, role,
+                LocalDateTime.now().plus(ttl)));
+        return new Issued(token, row);
+    }
+
+    private String hash(String token) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return HexFormat.of().formatHex(mac.doFinal(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 unavailable", ex);
+        }
+    }
+
+    private InvalidRefreshTokenException rejected(String reason) {
+        registry.counter("resolveit.auth.refresh", "result", reason).increment();
+        return new InvalidRefreshTokenException("Session expired. Please sign in again.");
+    }
+}
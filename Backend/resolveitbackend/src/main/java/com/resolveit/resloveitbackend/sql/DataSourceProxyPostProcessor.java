@@ -0,0 +1,38 @@
+package com.resolveit.resloveitbackend.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with datasource-proxy so every statement and fetched row
+ * is counted (see {@link SqlStatementListener}). The Hikari pool underneath is unchanged; the
+ * proxy only sits between the pool and Hibernate / JdbcTemplate.
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final long slowQueryMs;
+
+    public DataSourceProxyPostProcessor(@Value("${app.sql.stats.enabled:true}") boolean enabled,
+                                        @Value("${app.sql.slow-query-ms:200}") long slowQueryMs) {
+        this.enabled = enabled;
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource)) return bean;
+        SqlStatementListener listener = new SqlStatementListener(slowQueryMs);
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener)
+                .methodListener(listener)
+                .proxyResultSet()
+                .build();
+    }
+}
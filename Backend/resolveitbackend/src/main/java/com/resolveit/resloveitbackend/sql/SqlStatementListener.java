@@ -0,0 +1,77 @@
+package com.resolveit.resloveitbackend.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Feeds every JDBC execution into the open {@link SqlStats} scopes and logs slow statements.
+ * Slow statements are logged with the shape of their bind parameters (types and string lengths),
+ * never the values, since those include citizen names, emails and complaint text.
+ */
+class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementListener.class);
+
+    private final long slowQueryMs;
+
+    SqlStatementListener(long slowQueryMs) {
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // One execution is one round trip, however many rows a batch carries
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        long elapsed = execInfo.getElapsedTime();
+        SqlStatsRecorder.statement(sql, elapsed);
+
+        if (slowQueryMs > 0 && elapsed >= slowQueryMs) {
+            QueryInfo query = queryInfoList.isEmpty() ? null : queryInfoList.get(0);
+            int sets = query == null ? 0 : query.getParametersList().size();
+            log.warn("[sql] slow statement {}ms{}: {} params={}", elapsed,
+                    execInfo.isBatch() ? " (batch of " + sets + ")" : "",
+                    SqlStats.abbreviate(sql), query == null || sets == 0 ? "[]" : shape(query.getParametersList().get(0)));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext ctx) {
+        if (ctx.getTarget() instanceof ResultSet && "next".equals(ctx.getMethod().getName())
+                && Boolean.TRUE.equals(ctx.getResult())) {
+            SqlStatsRecorder.row();
+        }
+    }
+
+    private static String shape(List<ParameterSetOperation> params) {
+        StringJoiner out = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation op : params) {
+            Object[] args = op.getArgs();
+            if (ParameterSetOperation.isSetNullParameterOperation(op) || args.length < 2 || args[1] == null) {
+                out.add("null");
+            } else if (args[1] instanceof CharSequence s) {
+                out.add("String(" + s.length() + ")");
+            } else {
+                out.add(args[1].getClass().getSimpleName());
+            }
+        }
+        return out.toString();
+    }
+}
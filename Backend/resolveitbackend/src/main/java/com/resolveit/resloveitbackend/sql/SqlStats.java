@@ -0,0 +1,56 @@
+package com.resolveit.resloveitbackend.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statement count, rows fetched and JDBC time for one scope (an HTTP request or a
+ * SqlStatementGuard block in the tests). Only touched by the thread that opened it.
+ */
+public class SqlStats {
+
+    private int statements;
+    private long rows;
+    private long elapsedMs;
+    // Executions per SQL text; the same text running many times is the N+1 signature
+    private final Map<String, Integer> bySql = new LinkedHashMap<>();
+
+    void statement(String sql, long elapsedMs) {
+        statements++;
+        this.elapsedMs += elapsedMs;
+        bySql.merge(sql, 1, Integer::sum);
+    }
+
+    void row() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public Map<String, Integer> getBySql() {
+        return bySql;
+    }
+
+    // "12x select ..." for the most repeated statement, or null when nothing ran
+    public String mostRepeated() {
+        return bySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(e -> e.getValue() + "x " + abbreviate(e.getKey()))
+                .orElse(null);
+    }
+
+    static String abbreviate(String sql) {
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() <= 200 ? flat : flat.substring(0, 200) + "...";
+    }
+}
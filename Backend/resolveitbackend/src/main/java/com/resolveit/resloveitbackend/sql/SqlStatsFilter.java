@@ -0,0 +1,81 @@
+package com.resolveit.resloveitbackend.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request SQL accounting. Statements, rows fetched and JDBC time are recorded per route
+ * (resolveit.sql.statements / .rows / .time, tagged method and uri), so the heaviest endpoints
+ * show up on /actuator/prometheus next to their latency. Requests over
+ * app.sql.max-statements-per-request are logged with their most repeated statement.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final int maxStatementsPerRequest;
+
+    public SqlStatsFilter(MeterRegistry registry,
+                          @Value("${app.sql.stats.enabled:true}") boolean enabled,
+                          @Value("${app.sql.max-statements-per-request:25}") int maxStatementsPerRequest) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStatsRecorder.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatsRecorder.close(stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched requests (404s, probes) would each add a time series under their raw path
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("resolveit.sql.statements").tags("method", method, "uri", uri)
+                .description("SQL statements per request").register(registry).record(stats.getStatements());
+        DistributionSummary.builder("resolveit.sql.rows").tags("method", method, "uri", uri)
+                .description("Rows fetched per request").register(registry).record(stats.getRows());
+        Timer.builder("resolveit.sql.time").tags("method", method, "uri", uri)
+                .description("JDBC time per request").register(registry).record(stats.getElapsedMs(), TimeUnit.MILLISECONDS);
+
+        if (maxStatementsPerRequest > 0 && stats.getStatements() > maxStatementsPerRequest) {
+            log.warn("[sql] {} {} ran {} statements ({} rows, {}ms); most repeated: {}", method, uri,
+                    stats.getStatements(), stats.getRows(), stats.getElapsedMs(), stats.mostRepeated());
+        }
+    }
+}
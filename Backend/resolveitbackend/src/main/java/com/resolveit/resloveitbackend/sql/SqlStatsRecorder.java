@@ -0,0 +1,43 @@
+package com.resolveit.resloveitbackend.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Thread-bound stack of open {@link SqlStats} scopes. Every statement on the thread counts
+ * towards all open scopes, so a guard inside a request does not hide statements from the request.
+ */
+final class SqlStatsRecorder {
+
+    private static final ThreadLocal<Deque<SqlStats>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatsRecorder() {}
+
+    static SqlStats open() {
+        Deque<SqlStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        SqlStats stats = new SqlStats();
+        scopes.push(stats);
+        return stats;
+    }
+
+    static void close(SqlStats stats) {
+        Deque<SqlStats> scopes = SCOPES.get();
+        if (scopes == null) return;
+        scopes.remove(stats);
+        if (scopes.isEmpty()) SCOPES.remove();
+    }
+
+    static void statement(String sql, long elapsedMs) {
+        Deque<SqlStats> scopes = SCOPES.get();
+        if (scopes != null) for (SqlStats s : scopes) s.statement(sql, elapsedMs);
+    }
+
+    static void row() {
+        Deque<SqlStats> scopes = SCOPES.get();
+        if (scopes != null) for (SqlStats s : scopes) s.row();
+    }
+}
@@ -0,0 +1,52 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/slowtraces lists the most recent slow or failed requests (newest first);
+ * /actuator/slowtraces/{traceId} returns one of them with all its spans.
+ */
+@Component
+@Endpoint(id = "slowtraces")
+public class SlowTracesEndpoint {
+
+    private final TraceExporter exporter;
+
+    public SlowTracesEndpoint(TraceExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> list() {
+        List<Map<String, Object>> traces = exporter.recentSlow().stream().map(t -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("traceId", t.getTraceId());
+            row.put("name", t.getName());
+            row.put("startEpochMs", t.getStartEpochMs());
+            row.put("durationMs", t.getDurationMs());
+            row.put("sampledBecause", t.getSampledBecause());
+            row.put("spans", t.getSpans().size());
+            return row;
+        }).toList();
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("exported", exporter.getExported());
+        out.put("dropped", exporter.getDropped());
+        out.put("traces", traces);
+        return out;
+    }
+
+    @ReadOperation
+    public Trace trace(@Selector String traceId) {
+        return exporter.recentSlow().stream()
+                .filter(t -> t.getTraceId().equals(traceId))
+                .findFirst().orElse(null);
+    }
+}
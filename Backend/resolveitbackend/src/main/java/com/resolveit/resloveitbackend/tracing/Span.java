@@ -0,0 +1,86 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * One timed operation in a {@link Trace}. Started and ended on the same thread; only the end
+ * fields are written after creation, and they are read once the whole trace has completed.
+ */
+public class Span {
+
+    private final Trace trace;
+    private final String spanId;
+    private final String parentId;
+    private final String kind;
+    private volatile String name;
+    private final String thread;
+    private final long startEpochMs;
+    private final long startNanos;
+    private volatile long durationNanos = -1;
+    private volatile String error;
+    // The span that was current before this one started on this thread
+    Span restore;
+
+    Span(Trace trace, String spanId, String parentId, String name, String kind) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentId = parentId;
+        this.name = name;
+        this.kind = kind;
+        this.thread = Thread.currentThread().getName();
+        this.startEpochMs = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    void finish(Throwable failure) {
+        durationNanos = System.nanoTime() - startNanos;
+        if (failure != null) error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    }
+
+    // The root is renamed once the route template is known (after handler mapping)
+    void rename(String name) {
+        this.name = name;
+    }
+
+    @JsonIgnore
+    public Trace getTrace() {
+        return trace;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentId() {
+        return parentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public long getStartEpochMs() {
+        return startEpochMs;
+    }
+
+    // Offset from the start of the trace, so a timeline can be drawn without clock arithmetic
+    public double getOffsetMs() {
+        return (startNanos - trace.getRoot().startNanos) / 1_000_000.0;
+    }
+
+    public double getDurationMs() {
+        return durationNanos < 0 ? -1 : durationNanos / 1_000_000.0;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,89 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * All spans of one request, including work handed to @Async tasks. The trace is complete when
+ * every span has ended and every task that captured it has run; only then is it sampled.
+ */
+public class Trace {
+
+    private final String traceId;
+    private final int maxSpans;
+    private final List<Span> spans = new ArrayList<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private int droppedSpans;
+    private Span root;
+    private volatile String sampledBecause;
+
+    Trace(String traceId, int maxSpans) {
+        this.traceId = traceId;
+        this.maxSpans = maxSpans;
+    }
+
+    // Returns false when the span cap is reached; the caller then runs untraced
+    synchronized boolean add(Span span) {
+        if (root == null) root = span;
+        if (spans.size() >= maxSpans) {
+            droppedSpans++;
+            return false;
+        }
+        spans.add(span);
+        return true;
+    }
+
+    void retain() {
+        open.incrementAndGet();
+    }
+
+    // True when this release completed the trace
+    boolean release() {
+        return open.decrementAndGet() == 0;
+    }
+
+    void sampledBecause(String reason) {
+        this.sampledBecause = reason;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    @JsonIgnore
+    public synchronized Span getRoot() {
+        return root;
+    }
+
+    public String getName() {
+        return getRoot().getName();
+    }
+
+    public long getStartEpochMs() {
+        return getRoot().getStartEpochMs();
+    }
+
+    // Wall time of the request itself; async children may end later
+    public double getDurationMs() {
+        return getRoot().getDurationMs();
+    }
+
+    public synchronized boolean isError() {
+        return spans.stream().anyMatch(s -> s.getError() != null);
+    }
+
+    public String getSampledBecause() {
+        return sampledBecause;
+    }
+
+    public synchronized int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    public synchronized List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+}
@@ -0,0 +1,146 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Receives sampled traces. Slow and failed ones are kept in memory for /actuator/slowtraces;
+ * all of them are appended as JSON lines to a size-rotated file (traces.jsonl, traces.jsonl.1, ...)
+ * by a single writer thread, so request threads never wait on disk. When the writer falls behind,
+ * traces are dropped and counted rather than queued without bound.
+ */
+@Component
+public class TraceExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final int slowBufferSize;
+    private final ThreadPoolExecutor writer;
+
+    // Newest first; guarded by itself
+    private final Deque<Trace> recentSlow = new ArrayDeque<>();
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private OutputStream out;
+    private long written;
+
+    public TraceExporter(ObjectMapper objectMapper,
+                         @Value("${app.tracing.export.file:logs/traces.jsonl}") String file,
+                         @Value("${app.tracing.export.max-bytes:10485760}") long maxBytes,
+                         @Value("${app.tracing.export.max-files:5}") int maxFiles,
+                         @Value("${app.tracing.slow-buffer-size:100}") int slowBufferSize) {
+        this.objectMapper = objectMapper;
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+        this.maxBytes = Math.max(1024, maxBytes);
+        this.maxFiles = Math.max(1, maxFiles);
+        this.slowBufferSize = Math.max(1, slowBufferSize);
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1000), r -> {
+            Thread t = new Thread(r, "trace-exporter");
+            t.setDaemon(true);
+            return t;
+        }, (r, executor) -> dropped.incrementAndGet());
+    }
+
+    void export(Trace trace) {
+        if (!"random".equals(trace.getSampledBecause())) {
+            synchronized (recentSlow) {
+                recentSlow.addFirst(trace);
+                if (recentSlow.size() > slowBufferSize) recentSlow.removeLast();
+            }
+        }
+        if (file != null) writer.execute(() -> write(trace));
+    }
+
+    public List<Trace> recentSlow() {
+        synchronized (recentSlow) {
+            return new ArrayList<>(recentSlow);
+        }
+    }
+
+    public long getExported() {
+        return exported.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    // Writer thread only
+    private void write(Trace trace) {
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(trace);
+            if (out == null) open();
+            if (written > 0 && written + line.length + 1 > maxBytes) roll();
+            out.write(line);
+            out.write('\n');
+            out.flush();
+            written += line.length + 1;
+            exported.incrementAndGet();
+        } catch (IOException ex) {
+            dropped.incrementAndGet();
+            log.warn("[trace] could not write {}: {}", file, ex.getMessage());
+            closeQuietly();
+        }
+    }
+
+    // Appends to the current file across restarts
+    private void open() throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        written = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        closeQuietly();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path from = i == 1 ? file : sibling(i - 1);
+            if (Files.exists(from)) Files.move(from, sibling(i), StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (maxFiles == 1) Files.deleteIfExists(file);
+        open();
+    }
+
+    private Path sibling(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void closeQuietly() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // nothing left to flush to
+        }
+        out = null;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        writer.execute(this::closeQuietly);
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
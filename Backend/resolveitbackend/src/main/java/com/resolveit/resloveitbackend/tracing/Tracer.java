@@ -0,0 +1,122 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process request tracer. Roots are started by {@link TracingFilter}; everything else only
+ * joins a trace already running on the thread, so scheduled jobs and startup code stay untraced.
+ *
+ * Sampling is tail-based: the decision is made when the trace completes, so slow or failed
+ * requests are always kept and only a fraction of the fast ones are exported.
+ */
+@Component
+public class Tracer {
+
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final TraceExporter exporter;
+    private final boolean enabled;
+    private final long slowThresholdMs;
+    private final double sampleRate;
+    private final int maxSpansPerTrace;
+
+    public Tracer(TraceExporter exporter,
+                  @Value("${app.tracing.enabled:true}") boolean enabled,
+                  @Value("${app.tracing.slow-threshold-ms:1000}") long slowThresholdMs,
+                  @Value("${app.tracing.sample-rate:0.01}") double sampleRate,
+                  @Value("${app.tracing.max-spans-per-trace:500}") int maxSpansPerTrace) {
+        this.exporter = exporter;
+        this.enabled = enabled;
+        this.slowThresholdMs = slowThresholdMs;
+        this.sampleRate = sampleRate;
+        this.maxSpansPerTrace = Math.max(1, maxSpansPerTrace);
+    }
+
+    public Span startRoot(String name) {
+        if (!enabled) return null;
+        Trace trace = new Trace(newId(16), maxSpansPerTrace);
+        return open(trace, null, name, "request");
+    }
+
+    /** Starts a child of the current span, or returns null when no trace is active. */
+    public Span start(String name, String kind) {
+        Span parent = current.get();
+        if (parent == null) return null;
+        return open(parent.getTrace(), parent.getSpanId(), name, kind);
+    }
+
+    private Span open(Trace trace, String parentId, String name, String kind) {
+        Span span = new Span(trace, newId(8), parentId, name, kind);
+        if (!trace.add(span)) return null;
+        trace.retain();
+        span.restore = current.get();
+        current.set(span);
+        return span;
+    }
+
+    /** Ends a span from {@link #startRoot} or {@link #start}; null is ignored. */
+    public void end(Span span, Throwable failure) {
+        if (span == null) return;
+        span.finish(failure);
+        restore(span.restore);
+        release(span.getTrace());
+    }
+
+    public void rename(Span span, String name) {
+        if (span != null) span.rename(name);
+    }
+
+    public Span current() {
+        return current.get();
+    }
+
+    /**
+     * Wraps a task so it runs as part of the submitting thread's trace. The trace is held open
+     * until the task has run, so spans it records are exported together with the request.
+     */
+    public Runnable wrap(Runnable task) {
+        Span parent = current.get();
+        if (parent == null) return task;
+        Trace trace = parent.getTrace();
+        trace.retain();
+        return () -> {
+            Span previous = current.get();
+            current.set(parent);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+                release(trace);
+            }
+        };
+    }
+
+    private void restore(Span previous) {
+        if (previous == null) current.remove();
+        else current.set(previous);
+    }
+
+    private void release(Trace trace) {
+        if (!trace.release()) return;
+        Span root = trace.getRoot();
+        if (trace.isError()) {
+            trace.sampledBecause("error");
+        } else if (root.getDurationMs() >= slowThresholdMs) {
+            trace.sampledBecause("slow");
+        } else if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            trace.sampledBecause("random");
+        } else {
+            return;
+        }
+        exporter.export(trace);
+    }
+
+    private static String newId(int hexChars) {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        String hex = Long.toHexString(r.nextLong()) + Long.toHexString(r.nextLong());
+        while (hex.length() < hexChars) hex = "0" + hex;
+        return hex.substring(0, hexChars);
+    }
+}
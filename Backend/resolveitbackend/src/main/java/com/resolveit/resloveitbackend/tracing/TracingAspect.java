@@ -0,0 +1,69 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Child spans for the layers a slow request usually spends its time in. Cloudinary uploads are
+ * traced inside CloudinaryService, because uploadFiles calls uploadFile without the proxy.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.resolveit.resloveitbackend.repository";
+
+    // Spring Data proxies implement the declaring interface; inherited methods (save, findById) name CrudRepository
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> iface : proxyClass.getInterfaces()) {
+                if (iface.getPackageName().equals(REPOSITORY_PACKAGE)) return iface.getSimpleName();
+            }
+            return proxyClass.getSimpleName();
+        }
+    };
+
+    private final Tracer tracer;
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object controller(ProceedingJoinPoint jp) throws Throwable {
+        return trace(jp, jp.getSignature().getDeclaringType().getSimpleName(), "controller");
+    }
+
+    @Around("execution(* com.resolveit.resloveitbackend.serviceImpl.ComplaintServiceImpl.*(..))")
+    public Object complaintService(ProceedingJoinPoint jp) throws Throwable {
+        return trace(jp, "ComplaintServiceImpl", "service");
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object repository(ProceedingJoinPoint jp) throws Throwable {
+        if (tracer.current() == null) return jp.proceed();
+        return trace(jp, REPOSITORY_NAMES.get(jp.getThis().getClass()), "repository");
+    }
+
+    // @Async runs before this advice, so the span measures the send on the mail thread
+    @Around("execution(public * com.resolveit.resloveitbackend.serviceImpl.EmailServiceImpl.send*(..))")
+    public Object email(ProceedingJoinPoint jp) throws Throwable {
+        return trace(jp, "EmailServiceImpl", "email");
+    }
+
+    private Object trace(ProceedingJoinPoint jp, String owner, String kind) throws Throwable {
+        Span span = tracer.start(owner + "." + jp.getSignature().getName(), kind);
+        if (span == null) return jp.proceed();
+        try {
+            Object result = jp.proceed();
+            tracer.end(span, null);
+            return result;
+        } catch (Throwable ex) {
+            tracer.end(span, ex);
+            throw ex;
+        }
+    }
+}
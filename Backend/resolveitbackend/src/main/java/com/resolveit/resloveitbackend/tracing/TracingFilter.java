@@ -0,0 +1,57 @@
+package com.resolveit.resloveitbackend.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Outermost filter, so the root span covers security, the handler and response serialization
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Span root = tracer.startRoot(request.getMethod() + " " + request.getRequestURI());
+        if (root != null) {
+            response.setHeader("X-Trace-Id", root.getTrace().getTraceId());
+            MDC.put("traceId", root.getTrace().getTraceId());
+        }
+        Throwable failure = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            // Name by route template so traces of the same endpoint group together
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) tracer.rename(root, request.getMethod() + " " + pattern);
+            if (failure == null && response.getStatus() >= 500) {
+                failure = new IllegalStateException("HTTP " + response.getStatus());
+            }
+            tracer.end(root, failure);
+            MDC.remove("traceId");
+        }
+    }
+}
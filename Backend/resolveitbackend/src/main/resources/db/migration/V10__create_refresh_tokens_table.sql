@@ -0,0 +1,16 @@
+-- Rotating refresh tokens (RefreshTokenManager); token_hash is an HMAC-SHA256 of the token, never the token
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash CHAR(64) NOT NULL,
+    family VARCHAR(36) NOT NULL,
+    user_id BIGINT NULL,
+    email VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NULL,
+    role VARCHAR(30) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used_at DATETIME(6) NULL,
+    UNIQUE KEY uk_refresh_tokens_hash (token_hash),
+    INDEX idx_refresh_tokens_family (family),
+    INDEX idx_refresh_tokens_email (email),
+    INDEX idx_refresh_tokens_expires (expires_at)
+);
@@ -0,0 +1,12 @@
+-- Deleted complaints leave every list that showed them: the admin list ('*'), the owner's and the
+-- assignee's. One single-statement trigger per audience, so the script runs without DELIMITER.
+CREATE TRIGGER trg_complaints_tombstone_all AFTER DELETE ON complaints FOR EACH ROW
+    INSERT INTO complaint_tombstones (complaint_id, audience, removed_at) VALUES (OLD.id, '*', NOW(6));
+
+CREATE TRIGGER trg_complaints_tombstone_owner AFTER DELETE ON complaints FOR EACH ROW
+    INSERT INTO complaint_tombstones (complaint_id, audience, removed_at)
+    SELECT OLD.id, u.email, NOW(6) FROM users u WHERE u.id = OLD.user_id;
+
+CREATE TRIGGER trg_complaints_tombstone_assignee AFTER DELETE ON complaints FOR EACH ROW
+    INSERT INTO complaint_tombstones (complaint_id, audience, removed_at)
+    SELECT OLD.id, OLD.assigned_to, NOW(6) FROM DUAL WHERE OLD.assigned_to IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Lease table used by the cluster job scheduler; one row per job or job partition
+CREATE TABLE IF NOT EXISTS job_leases (
+    job_name VARCHAR(100) PRIMARY KEY,
+    owner_id VARCHAR(100),
+    lease_until TIMESTAMP NOT NULL,
+    fencing_token BIGINT NOT NULL DEFAULT 0,
+    heartbeat_at TIMESTAMP NULL,
+    last_started_at TIMESTAMP NULL,
+    last_completed_at TIMESTAMP NULL,
+    last_duration_ms BIGINT NULL
+);
@@ -0,0 +1,19 @@
+-- Pooled id blocks for complaints and their child rows (replaces AUTO_INCREMENT so Hibernate can batch inserts)
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- Start each generator past the ids already in use (allocation size is 50)
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'complaints', COALESCE(MAX(id), 0) + 51 FROM complaints
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'complaint_status_history', COALESCE(MAX(id), 0) + 51 FROM complaint_status_history
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'complaint_replies', COALESCE(MAX(id), 0) + 51 FROM complaint_replies
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'complaint_notes', COALESCE(MAX(id), 0) + 51 FROM complaint_notes
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,2 @@
+-- Optimistic locking column for complaints; existing rows start at version 0
+ALTER TABLE complaints ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Timeline pages filter on complaint_id and walk (changed_at, id) in order.
+-- InnoDB appends the primary key to secondary indexes, so this also covers the id tie-breaker.
+CREATE INDEX idx_history_complaint_changed ON complaint_status_history (complaint_id, changed_at);
@@ -0,0 +1,6 @@
+-- Replies go back to AUTO_INCREMENT ids so "?after=<id>" sees them in insertion order.
+-- InnoDB keeps the counter above the largest id already present, including pooled ones.
+ALTER TABLE complaint_replies MODIFY id BIGINT NOT NULL AUTO_INCREMENT;
+
+-- Incremental thread reads: WHERE complaint_id = ? AND id > ? ORDER BY id
+CREATE INDEX idx_replies_complaint_id ON complaint_replies (complaint_id, id);
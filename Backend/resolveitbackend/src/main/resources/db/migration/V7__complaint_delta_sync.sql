@@ -0,0 +1,16 @@
+-- Every write path now maintains last_updated_at; give older rows a starting value
+UPDATE complaints SET last_updated_at = submitted_at WHERE last_updated_at IS NULL;
+
+-- changedSince lookups for admins, officers (assigned_to) and citizens (user_id)
+CREATE INDEX idx_complaints_last_updated ON complaints (last_updated_at);
+CREATE INDEX idx_complaints_assignee_updated ON complaints (assigned_to, last_updated_at);
+CREATE INDEX idx_complaints_user_updated ON complaints (user_id, last_updated_at);
+
+-- Complaints that left a user's list (reassigned away from an officer)
+CREATE TABLE IF NOT EXISTS complaint_tombstones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    complaint_id BIGINT NOT NULL,
+    audience VARCHAR(255) NOT NULL,
+    removed_at DATETIME(6) NOT NULL,
+    INDEX idx_tombstones_audience_removed (audience, removed_at)
+);
@@ -0,0 +1,13 @@
+-- Composite indexes for GET /api/complaints/search (ComplaintSpecifications).
+-- Every filter is an equality/IN on the leading column with submitted_at second, so the default
+-- "newest first" sort and from/to ranges are served from the same index without a filesort.
+CREATE INDEX idx_complaints_submitted ON complaints (submitted_at);
+CREATE INDEX idx_complaints_status_submitted ON complaints (status, submitted_at);
+CREATE INDEX idx_complaints_priority_submitted ON complaints (priority, submitted_at);
+CREATE INDEX idx_complaints_category_submitted ON complaints (category, submitted_at);
+CREATE INDEX idx_complaints_department_submitted ON complaints (assigned_department, submitted_at);
+CREATE INDEX idx_complaints_escalated_submitted ON complaints (escalated, submitted_at);
+
+-- Scoped searches: officers (assigned_to) and citizens (user_id), optionally by status
+CREATE INDEX idx_complaints_assignee_status_submitted ON complaints (assigned_to, status, submitted_at);
+CREATE INDEX idx_complaints_user_status_submitted ON complaints (user_id, status, submitted_at);
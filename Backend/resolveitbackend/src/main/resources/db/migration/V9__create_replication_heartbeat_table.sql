@@ -0,0 +1,7 @@
+-- Written on the primary every second by ReplicaLagMonitor; its age on the replica is the replication lag
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_ms BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO replication_heartbeat (id, beat_ms) VALUES (1, 0);
@@ -0,0 +1,18 @@
+package com.resolveit.resloveitbackend;
+
+import java.io.IOException;
+
+/**
+ * Starts the application with the test classpath, which adds the bench tools under tools/:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.profiles=bench -Dspring-boot.run.arguments="--app.bench.scenario=..."
+ *
+ * They stay out of the production jar because they create accounts and bulk data in whatever
+ * database the profile points at.
+ */
+public class TestResloveitbackendApplication {
+
+    public static void main(String[] args) throws IOException {
+        ResloveitbackendApplication.main(args);
+    }
+}
@@ -0,0 +1,145 @@
+package com.resolveit.resloveitbackend.controller;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.ComplaintReply;
+import com.resolveit.resloveitbackend.Model.ComplaintStatusHistory;
+import com.resolveit.resloveitbackend.Model.Officer;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import com.resolveit.resloveitbackend.repository.OfficerRepository;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.security.JwtUtil;
+import com.resolveit.resloveitbackend.sql.SqlStatementGuard;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the busiest read endpoints, so an N+1 (e.g. dropping @BatchSize from
+ * Complaint's collections) fails the build. Each budget counts everything the request runs,
+ * authentication included, on a cold cache; raise one only together with the query it pays for.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:resolveit-defaults.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:budgets;DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "app.jwt.secret=c3RhdGVtZW50LWJ1ZGdldC10ZXN0LXNlY3JldC1rZXktMzItYnl0ZXM=",
+        "cloudinary.cloud-name=test",
+        "cloudinary.api-key=test",
+        "cloudinary.api-secret=test",
+        "app.jobs.enabled=false",
+        "app.logging.dir=target/logs",
+        "app.tracing.export.file=target/traces.jsonl"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadEndpointStatementBudgetTest {
+
+    private static final int COMPLAINTS = 30;
+    private static final String ADMIN = "admin@example.com";
+    // JwtAuthFilter's user lookup; later requests may find it in the query cache
+    private static final int AUTH = 1;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    OfficerRepository officerRepository;
+
+    @Autowired
+    ComplaintRepository complaintRepository;
+
+    private String adminToken;
+    private Long complaintId;
+
+    @BeforeAll
+    void seed() {
+        userRepository.save(new User("Admin", ADMIN, "x", Role.ROLE_ADMIN));
+        List<User> citizens = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            citizens.add(new User("Citizen " + i, "citizen" + i + "@example.com", "x", Role.ROLE_CITIZEN));
+        }
+        userRepository.saveAll(citizens);
+
+        List<Officer> officers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            officers.add(Officer.builder().name("Officer " + i).email("officer" + i + "@example.com")
+                    .password("x").department("Department " + (i % 3)).role("ROLE_OFFICER").build());
+        }
+        officerRepository.saveAll(officers);
+
+        // Every complaint has attachments, replies and history, so a per-complaint load shows up
+        List<Complaint> complaints = new ArrayList<>();
+        for (int i = 0; i < COMPLAINTS; i++) {
+            User citizen = citizens.get(i % citizens.size());
+            Complaint c = new Complaint();
+            c.setReferenceNumber("GRV-BUDGET-" + i);
+            c.setTitle("Complaint " + i);
+            c.setDescription("Description " + i);
+            c.setCategory("Roads");
+            c.setSubmittedBy(citizen.getEmail());
+            c.setUser(citizen);
+            c.setAttachments(new ArrayList<>(List.of("https://files.example.com/" + i + ".jpg")));
+            c.setReplies(new ArrayList<>(List.of(
+                    new ComplaintReply("Looking into it", ADMIN, true, c),
+                    new ComplaintReply("Thanks", citizen.getEmail(), false, c))));
+            c.setStatusHistory(new ArrayList<>(List.of(
+                    new ComplaintStatusHistory(c, ComplaintStatus.PENDING, citizen.getEmail(), "Submitted"))));
+            complaints.add(c);
+        }
+        complaintRepository.saveAll(complaints);
+        complaintId = complaints.get(COMPLAINTS / 2).getId();
+        adminToken = jwtUtil.generateToken(ADMIN, "ROLE_ADMIN");
+    }
+
+    // ETag, complaints, then attachments and replies for all of them in one batch each
+    @Test
+    void complaintListLoadsCollectionsInBatches() throws Exception {
+        SqlStatementGuard.assertAtMost(AUTH + 4, () -> mockMvc.perform(get("/api/complaints")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(COMPLAINTS)));
+    }
+
+    // Version for the ETag, then the complaint with its attachments and replies
+    @Test
+    void complaintDetailIsASingleLoad() throws Exception {
+        SqlStatementGuard.assertAtMost(AUTH + 4, () -> mockMvc.perform(get("/api/complaints/" + complaintId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replies.length()").value(2)));
+    }
+
+    // The directory snapshot is loaded once and then served from memory
+    @Test
+    void officerDirectoryIsOneQuery() throws Exception {
+        SqlStatementGuard.assertAtMost(AUTH + 1, () -> mockMvc.perform(get("/api/officers")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10)));
+    }
+}
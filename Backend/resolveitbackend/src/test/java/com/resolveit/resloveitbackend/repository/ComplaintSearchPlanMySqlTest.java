@@ -0,0 +1,49 @@
+package com.resolveit.resloveitbackend.repository;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ComplaintSearchPlanTest} against MySQL 8 in a container, so the plans are the ones production
+ * gets. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ComplaintSearchPlanMySqlTest extends ComplaintSearchPlanTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Override
+    void analyze() {
+        jdbcTemplate.queryForList("analyze table complaints");
+    }
+
+    // The plan row for complaints must name the index MySQL will actually use; possible_keys alone
+    // only says one would apply
+    @Override
+    void assertUsesIndex(Statement query, String sortColumn) {
+        if (!query.sql().contains(" where ")) {
+            super.assertUsesIndex(query, sortColumn);
+            return;
+        }
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + query.sql(), query.args());
+        // The search reads complaints alone, so the first row is its plan
+        Map<String, Object> row = plan.get(0);
+        assertThat(row.get("key")).as(query.sql() + " " + row).isNotNull();
+    }
+
+    @Override
+    boolean leadsIndex(String column) {
+        Integer n = jdbcTemplate.queryForObject("select count(*) from information_schema.statistics where table_schema = database() " +
+                "and table_name = 'complaints' and column_name = ? and seq_in_index = 1", Integer.class, column);
+        return n != null && n > 0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.resolveit.resloveitbackend.repository;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.dto.ComplaintFilter;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.service.ComplaintSearchService;
+import com.resolveit.resloveitbackend.serviceImpl.ComplaintSearchServiceImpl;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAINs every filter combination GET /api/complaints/search supports and fails when the
+ * complaints table cannot be read through an index. The schema is what Hibernate creates plus the
+ * db/migration scripts, as in a deployment. Runs on embedded H2 in MySQL mode;
+ * {@link ComplaintSearchPlanMySqlTest} repeats the checks on MySQL when Docker is available.
+ *
+ * Each case runs the real search (ComplaintSearchServiceImpl and ComplaintSpecifications) behind a
+ * datasource-proxy listener, and EXPLAINs the page query Hibernate sent, with its bind values.
+ * Add a case here when adding a filter there.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER",
+        "spring.jpa.hibernate.ddl-auto=create"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ComplaintSearchServiceImpl.class, ComplaintSearchPlanTest.CapturingProxy.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ComplaintSearchPlanTest {
+
+    private static final String OFFICER = "officer0@example.com";
+    private static final String CITIZEN = "citizen0@example.com";
+
+    // Statements the search sent, with bind values in parameter order; only recorded while capturing
+    private static final ThreadLocal<List<Statement>> CAPTURED = new ThreadLocal<>();
+
+    record Statement(String sql, Object[] args) {}
+
+    /** Wraps the test DataSource the way DataSourceProxyPostProcessor wraps the application's. */
+    @TestConfiguration
+    static class CapturingProxy implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) return bean;
+            return ProxyDataSourceBuilder.create(dataSource).name(beanName)
+                    .afterQuery((exec, queries) -> {
+                        List<Statement> out = CAPTURED.get();
+                        if (out == null) return;
+                        for (QueryInfo query : queries) {
+                            Object[] args = query.getParametersList().isEmpty() ? new Object[0]
+                                    : query.getParametersList().get(0).stream()
+                                            .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                                            .map(op -> op.getArgs().length > 1 ? op.getArgs()[1] : null)
+                                            .toArray();
+                            out.add(new Statement(query.getQuery(), args));
+                        }
+                    })
+                    .build();
+        }
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ComplaintRepository complaintRepository;
+
+    @Autowired
+    ComplaintSearchService searchService;
+
+    @BeforeAll
+    void migrateAndSeed() throws IOException {
+        // Hibernate already created the tables and columns the early scripts add, so those statements
+        // fail here; the indexes come only from the scripts, and a missing one fails its case below
+        ResourceDatabasePopulator migrations = new ResourceDatabasePopulator();
+        migrations.setContinueOnError(true);
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+        Arrays.sort(scripts, Comparator.comparingInt(ComplaintSearchPlanTest::version));
+        migrations.setScripts(scripts);
+        migrations.execute(dataSource);
+
+        // Enough rows with spread-out values that the optimizer prefers an index when one applies
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            users.add(new User("Citizen " + i, "citizen" + i + "@example.com", "x", Role.ROLE_CITIZEN));
+        }
+        userRepository.saveAll(users);
+        List<Complaint> complaints = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 2000; i++) {
+            Complaint c = new Complaint();
+            c.setReferenceNumber("GRV-PLAN-" + i);
+            c.setTitle("Complaint " + i);
+            c.setCategory("Category " + (i % 20));
+            c.setStatus(ComplaintStatus.values()[i % ComplaintStatus.values().length]);
+            c.setPriority(ComplaintPriority.values()[i % ComplaintPriority.values().length]);
+            c.setAssignedTo(i % 3 == 0 ? null : "officer" + (i % 40) + "@example.com");
+            c.setAssignedDepartment("Department " + (i % 15));
+            c.setEscalated(i % 50 == 0);
+            c.setSubmittedAt(now.minusHours(i));
+            c.setLastUpdatedAt(now.minusMinutes(i));
+            c.setUser(users.get(i % users.size()));
+            complaints.add(c);
+        }
+        complaintRepository.saveAll(complaints);
+        analyze();
+    }
+
+    Stream<Arguments> filters() {
+        String to = LocalDate.now().toString();
+        String from = LocalDate.now().minusDays(30).toString();
+        return Stream.of(
+                Arguments.of("no filter", filter(f -> { })),
+                Arguments.of("status", filter(f -> f.setStatus("PENDING,ASSIGNED"))),
+                Arguments.of("priority", filter(f -> f.setPriority("HIGH,URGENT"))),
+                Arguments.of("category", filter(f -> f.setCategory("Category 3"))),
+                Arguments.of("department", filter(f -> f.setDepartment("Department 4"))),
+                Arguments.of("escalated", filter(f -> f.setEscalated(true))),
+                Arguments.of("date range", filter(f -> { f.setFrom(from); f.setTo(to); })),
+                Arguments.of("status + date range", filter(f -> { f.setStatus("PENDING"); f.setFrom(from); })),
+                Arguments.of("officer", filter(f -> f.setAssignedTo(OFFICER))),
+                Arguments.of("officer + status", filter(f -> { f.setStatus("IN_PROGRESS"); f.setAssignedTo(OFFICER); })),
+                Arguments.of("citizen", filter(f -> f.setUserEmail(CITIZEN))),
+                Arguments.of("citizen + status", filter(f -> { f.setStatus("RESOLVED"); f.setUserEmail(CITIZEN); })));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    void searchFilterUsesAnIndex(String name, ComplaintFilter filter) {
+        assertUsesIndex(pageQuery(filter, null), "submitted_at");
+    }
+
+    // lastUpdatedAt is the only other sort key; without filters it must come from its own index
+    @Test
+    void lastUpdatedSortUsesAnIndex() {
+        assertUsesIndex(pageQuery(new ComplaintFilter(), "lastUpdatedAt,desc"), "last_updated_at");
+    }
+
+    // Runs the search and returns the statement that fetched the page (not the count or the user lookup)
+    Statement pageQuery(ComplaintFilter filter, String sort) {
+        List<Statement> sent = new ArrayList<>();
+        CAPTURED.set(sent);
+        try {
+            searchService.search(filter, 0, 20, sort);
+        } finally {
+            CAPTURED.remove();
+        }
+        return sent.stream()
+                .filter(st -> st.sql().contains(" from complaints ") && st.sql().contains(" order by "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No page query among " + sent));
+    }
+
+    private static ComplaintFilter filter(Consumer<ComplaintFilter> setup) {
+        ComplaintFilter f = new ComplaintFilter();
+        setup.accept(f);
+        return f;
+    }
+
+    void analyze() {
+        jdbcTemplate.execute("analyze");
+    }
+
+    // Both engines plan a query without WHERE as scan plus top-N while the table is small; what
+    // matters there is that an index leads with the sort column, so a large table can walk it
+    void assertUsesIndex(Statement query, String sortColumn) {
+        if (!query.sql().contains(" where ")) {
+            assertThat(leadsIndex(sortColumn)).as("index leading with " + sortColumn).isTrue();
+            return;
+        }
+        // H2 names the chosen index in a comment after the table, or "tableScan" without one
+        String plan = jdbcTemplate.queryForObject("explain " + query.sql(), String.class, query.args());
+        assertThat(plan).as(query.sql()).doesNotContain(".tableScan");
+    }
+
+    boolean leadsIndex(String column) {
+        Integer n = jdbcTemplate.queryForObject("select count(*) from information_schema.index_columns " +
+                "where table_name = 'complaints' and column_name = ? and ordinal_position = 1", Integer.class, column);
+        return n != null && n > 0;
+    }
+
+    private static int version(Resource script) {
+        String file = script.getFilename();
+        return Integer.parseInt(file.substring(1, file.indexOf("__")));
+    }
+}
@@ -0,0 +1,87 @@
+package com.resolveit.resloveitbackend.scheduling;
+
+import com.resolveit.resloveitbackend.repository.JobLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two scheduler instances standing in for two nodes, sharing one H2 database: a job must run once
+ * per interval across both, whichever node ticks first.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:leases;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// Every lease UPDATE must commit on its own, as it does in the application
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaseJobSchedulerTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(2);
+
+    @Autowired
+    JobLeaseRepository leaseRepository;
+
+    private final List<String> ranOn = new CopyOnWriteArrayList<>();
+    private final ClusterJob job = new ClusterJob() {
+        public String name() { return "lease-test"; }
+        public Duration interval() { return INTERVAL; }
+        public void run(JobContext context) { ranOn.add(context.getLeaseName() + "@" + context.getFencingToken()); }
+    };
+
+    private LeaseJobScheduler nodeA;
+    private LeaseJobScheduler nodeB;
+
+    @BeforeEach
+    void nodes() {
+        leaseRepository.deleteAll();
+        nodeA = new LeaseJobScheduler(leaseRepository, List.of(job), true, 60_000, "node-a");
+        nodeB = new LeaseJobScheduler(leaseRepository, List.of(job), true, 60_000, "node-b");
+    }
+
+    @AfterEach
+    void stop() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void releasedLeaseStaysClosedUntilTheNextRunIsDue() throws Exception {
+        nodeA.tick(job);
+        nodeB.tick(job);
+        nodeA.tick(job);
+        assertThat(ranOn).hasSize(1);
+        assertThat(stats(nodeB).getSkipped()).isEqualTo(1);
+
+        Thread.sleep(INTERVAL.toMillis() + 200);
+        nodeB.tick(job);
+        nodeA.tick(job);
+        assertThat(ranOn).hasSize(2);
+        assertThat(stats(nodeB).getRuns()).isEqualTo(1);
+        assertThat(leaseRepository.findById(job.name()).orElseThrow().getOwnerId()).isNull();
+    }
+
+    @Test
+    void concurrentTicksRunTheJobOnce() {
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> nodeA.tick(job)),
+                CompletableFuture.runAsync(() -> nodeB.tick(job))).join();
+        assertThat(ranOn).hasSize(1);
+        assertThat(stats(nodeA).getRuns() + stats(nodeB).getRuns()).isEqualTo(1);
+        assertThat(stats(nodeA).getSkipped() + stats(nodeB).getSkipped()).isEqualTo(1);
+    }
+
+    private JobRunStats stats(LeaseJobScheduler node) {
+        return node.getStats().iterator().next();
+    }
+}
@@ -0,0 +1,135 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.exception.ErrorResponse;
+import com.resolveit.resloveitbackend.exception.GlobalExceptionHandler;
+import com.resolveit.resloveitbackend.exception.IngestionOverloadedException;
+import com.resolveit.resloveitbackend.exception.SubmissionPendingException;
+import com.resolveit.resloveitbackend.serviceImpl.ComplaintSubmissionWriter.Result;
+import com.resolveit.resloveitbackend.serviceImpl.ComplaintSubmissionWriter.Submission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ingestion pipeline outcomes without a database: the direct path below minConcurrent, per-submission
+ * retry when a batch fails, and what a caller gets back when it stops waiting.
+ */
+class ComplaintIngestionPipelineTest {
+
+    private final ComplaintSubmissionWriter writer = mock(ComplaintSubmissionWriter.class);
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private ComplaintIngestionPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (pipeline != null) pipeline.stop();
+    }
+
+    @Test
+    void loneSubmissionIsWrittenOnTheCallersThread() {
+        pipeline = start(64, 5, 30000, 4);
+        when(writer.writeOne(any(), anyString())).thenAnswer(inv -> dto(inv.getArgument(1)));
+
+        ComplaintDto saved = pipeline.submit(new Complaint(), "a@example.com");
+
+        assertThat(saved.getSubmittedBy()).isEqualTo("a@example.com");
+        verify(writer, never()).writeBatch(anyList());
+    }
+
+    @Test
+    void failedBatchIsRetriedOneSubmissionAtATime() throws Exception {
+        // maxBatch 3 with a long wait: the three submissions below always share one batch
+        pipeline = start(3, 10000, 30000, 1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(writer.writeBatch(anyList())).thenAnswer(inv -> {
+            List<Submission> submissions = inv.getArgument(0);
+            batchSizes.add(submissions.size());
+            if (submissions.size() > 1) throw new IllegalStateException("constraint violation");
+            String email = submissions.get(0).email();
+            if (email.startsWith("bad")) throw new IllegalStateException("bad row");
+            return List.of(new Result(dto(email), null));
+        });
+
+        Future<ComplaintDto> first = callers.submit(() -> pipeline.submit(new Complaint(), "first@example.com"));
+        Future<ComplaintDto> bad = callers.submit(() -> pipeline.submit(new Complaint(), "bad@example.com"));
+        Future<ComplaintDto> last = callers.submit(() -> pipeline.submit(new Complaint(), "last@example.com"));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getSubmittedBy()).isEqualTo("first@example.com");
+        assertThat(last.get(5, TimeUnit.SECONDS).getSubmittedBy()).isEqualTo("last@example.com");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("bad row");
+        assertThat(batchSizes).containsExactly(3, 1, 1, 1);
+    }
+
+    @Test
+    void callerThatStopsWaitingIsToldWhetherItsSubmissionCanStillCommit() throws Exception {
+        pipeline = start(1, 0, 300, 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        when(writer.writeBatch(anyList())).thenAnswer(inv -> {
+            List<Submission> submissions = inv.getArgument(0);
+            submissions.forEach(s -> written.add(s.email()));
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return submissions.stream().map(s -> new Result(dto(s.email()), null)).toList();
+        });
+
+        // The writer holds this one past the caller's await timeout
+        Future<ComplaintDto> slow = callers.submit(() -> pipeline.submit(new Complaint(), "slow@example.com"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Still queued behind it when its own timeout expires: withdrawn, safe to retry
+        assertThatThrownBy(() -> pipeline.submit(new Complaint(), "queued@example.com"))
+                .isInstanceOf(IngestionOverloadedException.class);
+        assertThatThrownBy(() -> slow.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(SubmissionPendingException.class);
+
+        release.countDown();
+        pipeline.stop();
+        assertThat(written).containsExactly("slow@example.com");
+    }
+
+    @Test
+    void pendingSubmissionIsAnsweredWith202() {
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler()
+                .handleSubmissionPending(new SubmissionPendingException("still storing"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getErrorCode()).isEqualTo("SUBMISSION_PENDING");
+    }
+
+    private ComplaintIngestionPipeline start(int maxBatch, long maxWaitMs, long awaitTimeoutMs, int minConcurrent) {
+        ComplaintIngestionPipeline p = new ComplaintIngestionPipeline(writer, true, maxBatch, maxWaitMs, 16, 200,
+                awaitTimeoutMs, minConcurrent);
+        p.start();
+        return p;
+    }
+
+    private static ComplaintDto dto(String email) {
+        ComplaintDto dto = new ComplaintDto();
+        dto.setSubmittedBy(email);
+        return dto;
+    }
+}
@@ -0,0 +1,113 @@
+package com.resolveit.resloveitbackend.serviceImpl;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.ComplaintTombstone;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.dto.ComplaintDeltaDto;
+import com.resolveit.resloveitbackend.dto.ComplaintDto;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.repository.ComplaintRepository;
+import com.resolveit.resloveitbackend.repository.ComplaintTombstoneRepository;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delta sync watermarks: taken from the data the poll saw, and a row that commits late with a
+ * stamp before the watermark still reaches the next poll.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:sync;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ComplaintSyncServiceImplTest {
+
+    private static final String CITIZEN = "citizen@example.com";
+
+    @Autowired
+    ComplaintRepository complaintRepository;
+
+    @Autowired
+    ComplaintTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private ComplaintSyncServiceImpl sync;
+    private User citizen;
+    private final LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).minusMinutes(10);
+
+    @BeforeEach
+    void setUp() {
+        // Configured below the replica lag threshold on purpose: the service must raise it to 5s + 10s
+        sync = new ComplaintSyncServiceImpl(complaintRepository, tombstoneRepository, userRepository,
+                5000, 10000, 5000, 72);
+        citizen = userRepository.save(new User("Citizen", CITIZEN, "x", Role.ROLE_CITIZEN));
+    }
+
+    @Test
+    void watermarkIsTheNewestStampTheQuerySaw() {
+        complaint("GRV-SYNC-1", base);
+        complaint("GRV-SYNC-2", base.plusSeconds(30));
+
+        ComplaintDeltaDto first = sync.getAllComplaintsChangedSince("1970-01-01T00:00:00");
+
+        assertThat(first.isFull()).isTrue();
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(LocalDateTime.parse(first.getWatermark())).isEqualTo(base.plusSeconds(30));
+
+        // Nothing newer: the watermark stays put instead of following the clock
+        ComplaintDeltaDto again = sync.getAllComplaintsChangedSince(first.getWatermark());
+        assertThat(again.getWatermark()).isEqualTo(first.getWatermark());
+    }
+
+    @Test
+    void rowCommittedLateWithAnEarlierStampReachesTheNextPoll() {
+        complaint("GRV-SYNC-1", base.plusSeconds(30));
+        String watermark = sync.getUserComplaintsChangedSince(CITIZEN, "1970-01-01T00:00:00").getWatermark();
+
+        // Stamped 12s before the watermark but committed after that poll (slow commit or a lagging replica)
+        Complaint late = complaint("GRV-SYNC-LATE", base.plusSeconds(18));
+
+        ComplaintDeltaDto delta = sync.getUserComplaintsChangedSince(CITIZEN, watermark);
+
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getItems()).extracting(ComplaintDto::getId).contains(late.getId());
+    }
+
+    @Test
+    void deletedComplaintIsRemovedFromAdminAndOwnerLists() {
+        Complaint kept = complaint("GRV-SYNC-1", base);
+        String watermark = sync.getAllComplaintsChangedSince("1970-01-01T00:00:00").getWatermark();
+
+        // What the V11 delete trigger writes on MySQL
+        long deletedId = kept.getId() + 1000;
+        tombstoneRepository.save(new ComplaintTombstone(deletedId, ComplaintSyncServiceImpl.ALL_AUDIENCE, base.plusSeconds(1)));
+        tombstoneRepository.save(new ComplaintTombstone(deletedId, CITIZEN, base.plusSeconds(1)));
+
+        assertThat(sync.getAllComplaintsChangedSince(watermark).getRemovedIds()).containsExactly(deletedId);
+        assertThat(sync.getUserComplaintsChangedSince(CITIZEN, watermark).getRemovedIds()).containsExactly(deletedId);
+    }
+
+    private Complaint complaint(String reference, LocalDateTime updatedAt) {
+        Complaint c = new Complaint();
+        c.setReferenceNumber(reference);
+        c.setTitle(reference);
+        c.setCategory("Roads");
+        c.setStatus(ComplaintStatus.PENDING);
+        c.setPriority(ComplaintPriority.values()[0]);
+        c.setSubmittedAt(updatedAt);
+        c.setLastUpdatedAt(updatedAt);
+        c.setSubmittedBy(CITIZEN);
+        c.setUser(citizen);
+        return complaintRepository.saveAndFlush(c);
+    }
+}
@@ -0,0 +1,48 @@
+package com.resolveit.resloveitbackend.sql;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Statement budget for integration tests, so N+1 regressions fail the build instead of showing up
+ * as slow endpoints later. The work must run on the calling thread (MockMvc does):
+ *
+ *   SqlStatementGuard.assertAtMost(3, () -> mockMvc.perform(get("/api/complaints")));
+ *
+ * Needs the proxied DataSource, i.e. app.sql.stats.enabled left on. See ReadEndpointStatementBudgetTest.
+ */
+public final class SqlStatementGuard {
+
+    private SqlStatementGuard() {}
+
+    /** Runs work and returns what it executed. */
+    public static SqlStats measure(Callable<?> work) throws Exception {
+        SqlStats stats = SqlStatsRecorder.open();
+        try {
+            work.call();
+            return stats;
+        } finally {
+            SqlStatsRecorder.close(stats);
+        }
+    }
+
+    /** Runs work and throws AssertionError, listing the statements, if it executed more than max. */
+    public static <T> T assertAtMost(int max, Callable<T> work) throws Exception {
+        SqlStats stats = SqlStatsRecorder.open();
+        T result;
+        try {
+            result = work.call();
+        } finally {
+            SqlStatsRecorder.close(stats);
+        }
+        if (stats.getStatements() > max) {
+            StringBuilder msg = new StringBuilder("Expected at most " + max + " SQL statements but "
+                    + stats.getStatements() + " ran:");
+            for (Map.Entry<String, Integer> e : stats.getBySql().entrySet()) {
+                msg.append("\n  ").append(e.getValue()).append("x ").append(SqlStats.abbreviate(e.getKey()));
+            }
+            throw new AssertionError(msg.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.resolveit.resloveitbackend.tools;
+
+import com.resolveit.resloveitbackend.Model.Complaint;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.service.ComplaintService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process throughput benchmark, run with the "bench" profile against a real database:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.profiles=bench -Dspring-boot.run.arguments="--app.bench.operations=5000"
+ *
+ * Scenario "submit" pushes complaint submissions through ComplaintService from
+ * app.bench.threads threads and prints submissions/second and latency percentiles.
+ * Scenario "replay" replays recorded production traffic against a running instance (see {@link TrafficReplay}),
+ * "generate" bulk-loads a synthetic production-sized dataset (see {@link DatasetGenerator}), "http"
+ * drives fixed-concurrency GET load at a running instance to compare thread modes (see {@link HttpLoadBenchmark}),
+ * and "login-flood" measures dashboard latency while logins flood the instance (see {@link LoginFloodBenchmark}).
+ */
+@Component
+@Profile("bench")
+public class BenchmarkRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkRunner.class);
+    private static final String BENCH_EMAIL = "bench-citizen@resolveit.local";
+
+    private final ComplaintService complaintService;
+    private final UserRepository userRepository;
+    private final ConfigurableApplicationContext context;
+    private final TrafficReplay trafficReplay;
+    private final DatasetGenerator datasetGenerator;
+    private final HttpLoadBenchmark httpLoadBenchmark;
+    private final LoginFloodBenchmark loginFloodBenchmark;
+
+    @Value("${app.bench.scenario:submit}")
+    private String scenario;
+
+    @Value("${app.bench.threads:16}")
+    private int threads;
+
+    @Value("${app.bench.operations:2000}")
+    private int operations;
+
+    @Value("${app.bench.warmup:200}")
+    private int warmup;
+
+    @Value("${app.bench.exit:true}")
+    private boolean exitWhenDone;
+
+    public BenchmarkRunner(ComplaintService complaintService, UserRepository userRepository,
+                           ConfigurableApplicationContext context, TrafficReplay trafficReplay,
+                           DatasetGenerator datasetGenerator, HttpLoadBenchmark httpLoadBenchmark,
+                           LoginFloodBenchmark loginFloodBenchmark) {
+        this.complaintService = complaintService;
+        this.userRepository = userRepository;
+        this.context = context;
+        this.trafficReplay = trafficReplay;
+        this.datasetGenerator = datasetGenerator;
+        this.httpLoadBenchmark = httpLoadBenchmark;
+        this.loginFloodBenchmark = loginFloodBenchmark;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if ("generate".equals(scenario)) {
+            int status = datasetGenerator.run();
+            if (exitWhenDone) System.exit(SpringApplication.exit(context, () -> status));
+            return;
+        }
+        if ("http".equals(scenario)) {
+            int status = httpLoadBenchmark.run();
+            if (exitWhenDone) System.exit(SpringApplication.exit(context, () -> status));
+            return;
+        }
+        if ("login-flood".equals(scenario)) {
+            int status = loginFloodBenchmark.run();
+            if (exitWhenDone) System.exit(SpringApplication.exit(context, () -> status));
+            return;
+        }
+        if ("replay".equals(scenario)) {
+            int status = trafficReplay.run();
+            if (exitWhenDone) System.exit(SpringApplication.exit(context, () -> status));
+            return;
+        }
+
+        Runnable op = switch (scenario) {
+            case "submit" -> submitOperation();
+            default -> throw new IllegalArgumentException("Unknown benchmark scenario: " + scenario);
+        };
+
+        measure(op, warmup);
+        Result result = measure(op, operations);
+        log.info("[bench] scenario={} threads={} ops={} errors={} throughput={}/s p50={}ms p95={}ms p99={}ms max={}ms",
+                scenario, threads, operations, result.errors, String.format("%.1f", result.throughput()),
+                result.percentile(50), result.percentile(95), result.percentile(99), result.percentile(100));
+
+        if (exitWhenDone) System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private Runnable submitOperation() {
+        if (userRepository.findByEmail(BENCH_EMAIL).isEmpty()) {
+            userRepository.save(new User("Bench Citizen", BENCH_EMAIL, "{noop}bench", Role.ROLE_CITIZEN));
+        }
+        AtomicInteger seq = new AtomicInteger();
+        ComplaintPriority[] priorities = ComplaintPriority.values();
+        return () -> {
+            int n = seq.incrementAndGet();
+            Complaint c = new Complaint();
+            c.setTitle("Benchmark complaint " + n);
+            c.setDescription("Generated by BenchmarkRunner");
+            c.setCategory("Benchmark");
+            c.setPriority(priorities[n % priorities.length]);
+            complaintService.submitComplaint(c, BENCH_EMAIL);
+        };
+    }
+
+    private Result measure(Runnable op, int count) throws InterruptedException {
+        long[] latenciesMicros = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    long s = System.nanoTime();
+                    try {
+                        op.run();
+                    } catch (RuntimeException ex) {
+                        errors.incrementAndGet();
+                    }
+                    latenciesMicros[i] = (System.nanoTime() - s) / 1000;
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+        Arrays.sort(latenciesMicros);
+        return new Result(latenciesMicros, elapsedNanos, errors.get());
+    }
+
+    private record Result(long[] sortedLatenciesMicros, long elapsedNanos, int errors) {
+        double throughput() {
+            return sortedLatenciesMicros.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        String percentile(int p) {
+            if (sortedLatenciesMicros.length == 0) return "0";
+            int idx = Math.min(sortedLatenciesMicros.length - 1,
+                    (int) Math.ceil(p / 100.0 * sortedLatenciesMicros.length) - 1);
+            return String.format("%.2f", sortedLatenciesMicros[Math.max(0, idx)] / 1000.0);
+        }
+    }
+}
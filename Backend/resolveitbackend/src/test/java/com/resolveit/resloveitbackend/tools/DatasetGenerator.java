@@ -0,0 +1,364 @@
+package com.resolveit.resloveitbackend.tools;
+
+import com.resolveit.resloveitbackend.config.IdGeneratorSeeder;
+import com.resolveit.resloveitbackend.enums.ComplaintPriority;
+import com.resolveit.resloveitbackend.enums.ComplaintStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk-loads a production-sized dataset for scale testing, as the "generate" bench scenario:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.profiles=bench -Dspring-boot.run.arguments="--app.bench.scenario=generate
+ *       --app.bench.data.complaints=1000000 --app.bench.data.citizens=200000"
+ *
+ * Same seed and sizes give the same rows. Rows are written with JDBC batches, which MySQL turns into
+ * multi-row inserts (rewriteBatchedStatements, see resolveit-defaults.properties). Ids are assigned
+ * here, so a chunk of complaints and all its children are written by one writer in one transaction,
+ * and app.bench.data.threads chunks load in parallel. id_generators is advanced afterwards.
+ *
+ * Shape: a few citizens file most complaints and a few "hot" officers hold most assignments (power-law
+ * skew); replies are usually short threads with a long tail of very long ones; about 6% of complaints
+ * carry escalation chains of one to three levels. Generated accounts use @load.resolveit.local emails
+ * and the password "password". Run it against an idle database: a running instance keeps the id
+ * blocks it has already reserved.
+ */
+@Component
+@Profile("bench")
+public class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String DOMAIN = "@load.resolveit.local";
+    private static final int CHUNK = 1000;
+    private static final String[] DEPARTMENTS = {"Public Works", "Water Supply", "Electricity", "Sanitation",
+            "Transport", "Health", "Revenue", "Parks"};
+    // Category weights roughly follow the real mix: roads and water dominate
+    private static final String[] CATEGORIES = {"Roads", "Roads", "Roads", "Water", "Water", "Electricity",
+            "Sanitation", "Sanitation", "Transport", "Health", "Noise", "Other"};
+    private static final DateTimeFormatter REF_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdGeneratorSeeder idGeneratorSeeder;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.bench.data.seed:42}")
+    private long seed;
+
+    @Value("${app.bench.data.citizens:50000}")
+    private int citizens;
+
+    @Value("${app.bench.data.officers:300}")
+    private int officers;
+
+    @Value("${app.bench.data.complaints:250000}")
+    private int complaints;
+
+    // Higher = more skewed; 1 is uniform
+    @Value("${app.bench.data.citizen-skew:2.5}")
+    private double citizenSkew;
+
+    @Value("${app.bench.data.officer-skew:3.0}")
+    private double officerSkew;
+
+    @Value("${app.bench.data.days:365}")
+    private int days;
+
+    // Fixed end of the generated time range, so the data does not depend on when it was generated
+    @Value("${app.bench.data.until:2026-01-01T00:00:00}")
+    private String until;
+
+    @Value("${app.bench.data.threads:4}")
+    private int threads;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            PasswordEncoder passwordEncoder, IdGeneratorSeeder idGeneratorSeeder,
+                            EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.idGeneratorSeeder = idGeneratorSeeder;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // Rows of one chunk, written together in one transaction
+    private static final class Chunk {
+        final List<Object[]> complaints = new ArrayList<>(CHUNK);
+        final List<Object[]> attachments = new ArrayList<>();
+        final List<Object[]> history = new ArrayList<>();
+        final List<Object[]> replies = new ArrayList<>();
+        final List<Object[]> notes = new ArrayList<>();
+
+        int rows() {
+            return complaints.size() + attachments.size() + history.size() + replies.size() + notes.size();
+        }
+    }
+
+    // Next free id per table; only the generating thread touches these
+    private long nextComplaintId;
+    private long nextHistoryId;
+    private long nextReplyId;
+    private long nextNoteId;
+
+    // Returns 1 when the dataset is already present or a write failed
+    public int run() throws InterruptedException {
+        if (citizens < 1 || officers < 1) {
+            log.error("[generate] needs at least one citizen and one officer");
+            return 1;
+        }
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from users where email like ?", Integer.class, "%" + DOMAIN);
+        if (existing != null && existing > 0) {
+            log.error("[generate] {} generated users already present; drop the data or use an empty schema", existing);
+            return 1;
+        }
+        long start = System.nanoTime();
+        LocalDateTime end = LocalDateTime.parse(until);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        long firstUserId = maxId("users") + 1;
+        long firstOfficerId = maxId("officer") + 1;
+        nextComplaintId = maxId("complaints") + 1;
+        nextHistoryId = maxId("complaint_status_history") + 1;
+        nextReplyId = maxId("complaint_replies") + 1;
+        nextNoteId = maxId("complaint_notes") + 1;
+
+        // One hash for every account: BCrypt per row would dominate the load time
+        String password = passwordEncoder.encode("password");
+        long people = loadPeople(random.split(), firstUserId, firstOfficerId, password, end);
+        log.info("[generate] {} citizens and {} officers written", citizens, officers);
+
+        ThreadPoolExecutor writers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+        AtomicLong written = new AtomicLong(people);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        for (int done = 0; done < complaints && failure.get() == null; done += CHUNK) {
+            Chunk chunk = new Chunk();
+            int index = done / CHUNK;
+            for (int i = 0; i < Math.min(CHUNK, complaints - done); i++) {
+                generateComplaint(chunk, random, firstUserId, end);
+            }
+            writers.execute(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> write(chunk));
+                    long total = written.addAndGet(chunk.rows());
+                    if (index % 50 == 0) log.info("[generate] chunk {}: {} rows so far", index, total);
+                } catch (RuntimeException ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            });
+        }
+        writers.shutdown();
+        writers.awaitTermination(1, TimeUnit.DAYS);
+        if (failure.get() != null) {
+            log.error("[generate] write failed", failure.get());
+            return 1;
+        }
+
+        idGeneratorSeeder.seed();
+        // Rows went in through JDBC, so cached lookups (e.g. "no user with this email") are stale
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("[generate] seed={} complaints={} rows={} in {}s ({} rows/s)", seed, complaints, written.get(),
+                String.format("%.1f", seconds), String.format("%.0f", written.get() / seconds));
+        return 0;
+    }
+
+    private long loadPeople(SplittableRandom random, long firstUserId, long firstOfficerId, String password, LocalDateTime end) {
+        List<Object[]> rows = new ArrayList<>(CHUNK);
+        for (int i = 0; i < citizens; i++) {
+            Timestamp created = Timestamp.valueOf(end.minusMinutes(random.nextLong((long) days * 24 * 60)));
+            rows.add(new Object[]{firstUserId + i, "Citizen " + i, "citizen" + i + DOMAIN, password, "ROLE_CITIZEN", created});
+            if (rows.size() == CHUNK) {
+                insert("insert into users (id, name, email, password, role, created_at) values (?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        insert("insert into users (id, name, email, password, role, created_at) values (?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+
+        for (int i = 0; i < officers; i++) {
+            rows.add(new Object[]{firstOfficerId + i, "Officer " + i, officerEmail(i), password,
+                    DEPARTMENTS[i % DEPARTMENTS.length], "ROLE_OFFICER"});
+        }
+        insert("insert into officer (id, name, email, password, department, role) values (?, ?, ?, ?, ?, ?)", rows);
+        return citizens + officers;
+    }
+
+    private void generateComplaint(Chunk chunk, SplittableRandom r, long firstUserId, LocalDateTime end) {
+        long id = nextComplaintId++;
+        int citizen = skewed(r, citizens, citizenSkew);
+        String email = "citizen" + citizen + DOMAIN;
+        LocalDateTime submitted = end.minusMinutes(r.nextLong((long) days * 24 * 60));
+        ComplaintPriority priority = pick(r, new int[]{7, 18, 45, 30}, ComplaintPriority.values()); // URGENT..LOW
+        // Older complaints are further along; anything under a day old is usually still pending
+        double age = java.time.Duration.between(submitted, end).toHours() / (days * 24.0);
+        ComplaintStatus status = finalStatus(r, age);
+
+        List<ComplaintStatus> path = statusPath(status);
+        String officer = null;
+        String department = null;
+        if (status != ComplaintStatus.PENDING) {
+            int o = skewed(r, officers, officerSkew);
+            officer = officerEmail(o);
+            department = DEPARTMENTS[o % DEPARTMENTS.length];
+        }
+
+        // Status history: one row per step, minutes to days apart
+        LocalDateTime at = submitted;
+        for (int step = 0; step < path.size(); step++) {
+            if (step > 0) at = before(end, at.plusMinutes(30 + r.nextLong(60L * 24 * 3)));
+            String by = step == 0 ? email : step == 1 ? "system" : officer;
+            String notes = step == 0 ? "Initial submission" : step == 1 ? "Assigned to " + officer : "Status changed to " + path.get(step);
+            chunk.history.add(new Object[]{nextHistoryId++, id, path.get(step).name(), Timestamp.valueOf(at), by, notes});
+        }
+
+        int escalationLevel = 0;
+        String escalationReason = null;
+        LocalDateTime escalatedAt = null;
+        if (status != ComplaintStatus.RESOLVED && status != ComplaintStatus.CLOSED && r.nextInt(100) < 6) {
+            escalationLevel = 1 + r.nextInt(3);
+            for (int level = 1; level <= escalationLevel; level++) {
+                at = before(end, at.plusHours(priority.getSlaHours() / 2 + r.nextInt(48)));
+                chunk.history.add(new Object[]{nextHistoryId++, id, ComplaintStatus.ESCALATED.name(),
+                        Timestamp.valueOf(at), "system", "Escalated to level " + level});
+            }
+            escalationReason = "SLA of " + priority.getSlaHours() + "h exceeded";
+            escalatedAt = at;
+        }
+
+        // Replies: mostly 0-3, with a 2% tail of long back-and-forth threads
+        int replies = r.nextInt(100) < 2 ? 40 + r.nextInt(260) : (int) (-Math.log(1 - r.nextDouble()) * 1.2);
+        LocalDateTime replyAt = submitted;
+        for (int i = 0; i < replies; i++) {
+            replyAt = before(end, replyAt.plusMinutes(5 + r.nextLong(60L * 24)));
+            boolean admin = i % 2 == 0;
+            chunk.replies.add(new Object[]{nextReplyId++, id, admin ? "Update on your complaint (" + i + ")" : "Citizen follow-up (" + i + ")",
+                    admin ? (officer != null ? officer : "admin" + DOMAIN) : email, Timestamp.valueOf(replyAt), admin});
+            if (replyAt.isAfter(at)) at = replyAt;
+        }
+
+        if (officer != null) {
+            int notes = r.nextInt(4);
+            for (int i = 0; i < notes; i++) {
+                chunk.notes.add(new Object[]{nextNoteId++, id, "Internal note " + i, officer,
+                        Timestamp.valueOf(before(end, submitted.plusHours(1 + r.nextInt(72)))), true});
+            }
+        }
+
+        if (r.nextInt(100) < 10) {
+            int files = 1 + r.nextInt(3);
+            for (int i = 0; i < files; i++) {
+                chunk.attachments.add(new Object[]{id, "https://res.cloudinary.com/demo/complaints/" + id + "_" + i + ".jpg"});
+            }
+        }
+
+        int anonymous = r.nextInt(100) < 5 ? 1 : 0;
+        chunk.complaints.add(new Object[]{id, (long) path.size() + escalationLevel + (replies > 0 ? 1 : 0),
+                "GRV-" + submitted.format(REF_DATE) + "-" + String.format("%07d", id),
+                CATEGORIES[r.nextInt(CATEGORIES.length)] + " issue #" + id,
+                "Generated complaint " + id + " for scale testing.",
+                CATEGORIES[r.nextInt(CATEGORIES.length)],
+                (escalationLevel > 0 ? ComplaintStatus.ESCALATED : status).name(), priority.name(),
+                officer, department, anonymous == 1, email, Timestamp.valueOf(submitted), Timestamp.valueOf(at),
+                path.size() > 1 || escalationLevel > 0 ? (officer != null ? officer : "system") : email,
+                escalationLevel > 0, escalationLevel, escalationReason,
+                escalatedAt == null ? null : Timestamp.valueOf(escalatedAt), firstUserId + citizen});
+    }
+
+    private void write(Chunk chunk) {
+        insert("insert into complaints (id, version, reference_number, title, description, category, status, priority, " +
+                "assigned_to, assigned_department, is_anonymous, submitted_by, submitted_at, last_updated_at, last_updated_by, " +
+                "escalated, escalation_level, escalation_reason, escalated_at, user_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", chunk.complaints);
+        insert("insert into complaint_attachments (complaint_id, attachments) values (?, ?)", chunk.attachments);
+        insert("insert into complaint_status_history (id, complaint_id, status, changed_at, changed_by, notes) " +
+                "values (?, ?, ?, ?, ?, ?)", chunk.history);
+        insert("insert into complaint_replies (id, complaint_id, content, created_by, created_at, is_admin_reply) " +
+                "values (?, ?, ?, ?, ?, ?)", chunk.replies);
+        insert("insert into complaint_notes (id, complaint_id, content, created_by, created_at, is_private) " +
+                "values (?, ?, ?, ?, ?, ?)", chunk.notes);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += CHUNK) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + CHUNK)));
+        }
+    }
+
+    private static ComplaintStatus finalStatus(SplittableRandom r, double age) {
+        int roll = r.nextInt(100);
+        if (age < 0.01) return roll < 70 ? ComplaintStatus.PENDING : ComplaintStatus.ASSIGNED;
+        if (age < 0.1) {
+            return roll < 20 ? ComplaintStatus.PENDING : roll < 45 ? ComplaintStatus.ASSIGNED
+                    : roll < 60 ? ComplaintStatus.UNDER_REVIEW : roll < 85 ? ComplaintStatus.IN_PROGRESS : ComplaintStatus.RESOLVED;
+        }
+        return roll < 3 ? ComplaintStatus.PENDING : roll < 8 ? ComplaintStatus.ASSIGNED : roll < 12 ? ComplaintStatus.UNDER_REVIEW
+                : roll < 22 ? ComplaintStatus.IN_PROGRESS : roll < 70 ? ComplaintStatus.RESOLVED : ComplaintStatus.CLOSED;
+    }
+
+    // The usual lifecycle up to the final status
+    private static List<ComplaintStatus> statusPath(ComplaintStatus last) {
+        ComplaintStatus[] order = {ComplaintStatus.PENDING, ComplaintStatus.ASSIGNED, ComplaintStatus.UNDER_REVIEW,
+                ComplaintStatus.IN_PROGRESS, ComplaintStatus.RESOLVED, ComplaintStatus.CLOSED};
+        List<ComplaintStatus> path = new ArrayList<>();
+        for (ComplaintStatus s : order) {
+            path.add(s);
+            if (s == last) break;
+        }
+        return path;
+    }
+
+    // Power-law index in [0, n): skew 1 is uniform, larger values concentrate on the low indexes
+    private static int skewed(SplittableRandom r, int n, double skew) {
+        return Math.min(n - 1, (int) (n * Math.pow(r.nextDouble(), skew)));
+    }
+
+    private static <T> T pick(SplittableRandom r, int[] weights, T[] values) {
+        int total = 0;
+        for (int w : weights) total += w;
+        int roll = r.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) return values[i];
+        }
+        return values[values.length - 1];
+    }
+
+    private static LocalDateTime before(LocalDateTime end, LocalDateTime t) {
+        return t.isAfter(end) ? end : t;
+    }
+
+    private static String officerEmail(int i) {
+        return "officer" + i + DOMAIN;
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+}
@@ -0,0 +1,145 @@
+package com.resolveit.resloveitbackend.tools;
+
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.security.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running instance: app.bench.http.concurrency clients each send
+ * GETs for app.bench.http.paths back to back for app.bench.http.duration-seconds, authenticated as
+ * a synthetic admin. Run it as the "http" bench scenario once against an instance started normally
+ * and once against one started with the vthreads profile, on the same dataset:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.profiles=bench -Dspring-boot.run.arguments="--app.bench.scenario=http
+ *       --app.bench.http.target=http://localhost:8080 --app.bench.http.concurrency=400"
+ *
+ * Platform threads are capped by Tomcat's worker pool (200 by default), so the difference shows once
+ * concurrency exceeds it and requests block on I/O; for purely CPU-bound requests expect none.
+ * Compare the tail percentiles and the hikaricp.connections.pending metric of the target.
+ */
+@Component
+@Profile("bench")
+public class HttpLoadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpLoadBenchmark.class);
+    private static final String ADMIN_EMAIL = "bench-admin@resolveit.local";
+
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+
+    @Value("${app.bench.http.target:http://localhost:8080}")
+    private String target;
+
+    @Value("${app.bench.http.paths:/api/complaints,/api/officers}")
+    private List<String> paths;
+
+    @Value("${app.bench.http.concurrency:100}")
+    private int concurrency;
+
+    @Value("${app.bench.http.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${app.bench.http.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    public HttpLoadBenchmark(UserRepository userRepository, JwtUtil jwtUtil) {
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    // Returns 0, or 1 when more than 1% of the requests failed
+    public int run() throws InterruptedException {
+        if (userRepository.findByEmail(ADMIN_EMAIL).isEmpty()) {
+            userRepository.save(new User("Bench Admin", ADMIN_EMAIL, "{noop}bench", Role.ROLE_ADMIN));
+        }
+        String token = jwtUtil.generateToken(ADMIN_EMAIL, Role.ROLE_ADMIN.name());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<HttpRequest> requests = paths.stream()
+                .map(p -> HttpRequest.newBuilder(URI.create(target + p))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .GET().build())
+                .toList();
+
+        log.info("[http] target={} paths={} concurrency={} duration={}s (server thread mode is logged by the target)",
+                target, paths, concurrency, durationSeconds);
+        measure(client, requests, warmupSeconds);
+        Result result = measure(client, requests, durationSeconds);
+        long[] sorted = result.sortedMicros();
+        log.info("[http] requests={} errors={} throughput={}/s p50={}ms p95={}ms p99={}ms p99.9={}ms max={}ms",
+                sorted.length, result.errors(), String.format("%.1f", sorted.length / result.seconds()),
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                percentile(sorted, 99.9), percentile(sorted, 100));
+        return result.errors() * 100L > Math.max(1, sorted.length) ? 1 : 0;
+    }
+
+    private Result measure(HttpClient client, List<HttpRequest> requests, int seconds) throws InterruptedException {
+        if (seconds <= 0) return new Result(new long[0], 1, 0);
+        long[][] perClient = new long[concurrency][];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        for (int c = 0; c < concurrency; c++) {
+            int index = c;
+            pool.execute(() -> {
+                long[] latencies = new long[1024];
+                int n = 0;
+                int next = index;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requests.get(next++ % requests.size());
+                    long s = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) errors.incrementAndGet();
+                    } catch (IOException ex) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    if (n == latencies.length) latencies = Arrays.copyOf(latencies, n * 2);
+                    latencies[n++] = (System.nanoTime() - s) / 1000;
+                }
+                perClient[index] = Arrays.copyOf(latencies, n);
+                done.countDown();
+            });
+        }
+        done.await();
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+        pool.shutdown();
+        long[] all = Arrays.stream(perClient).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, elapsed, errors.get());
+    }
+
+    private record Result(long[] sortedMicros, double seconds, long errors) {}
+
+    private static String percentile(long[] sortedMicros, double p) {
+        if (sortedMicros.length == 0) return "0";
+        int idx = Math.min(sortedMicros.length - 1, (int) Math.ceil(p / 100.0 * sortedMicros.length) - 1);
+        return String.format("%.2f", sortedMicros[Math.max(0, idx)] / 1000.0);
+    }
+}
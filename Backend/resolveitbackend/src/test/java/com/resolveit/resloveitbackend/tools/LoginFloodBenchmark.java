@@ -0,0 +1,195 @@
+package com.resolveit.resloveitbackend.tools;
+
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.security.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks that a login flood cannot starve the rest of the API. A few probe clients read the
+ * dashboard endpoints (app.bench.flood.probe-paths) for phase-seconds alone, then again while
+ * app.bench.flood.concurrency clients hammer POST /api/auth/login with a real account. Run it as the
+ * "login-flood" bench scenario against a running instance that shares this process's database:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.profiles=bench -Dspring-boot.run.arguments="--app.bench.scenario=login-flood
+ *       --app.bench.flood.target=http://localhost:8080"
+ *
+ * With password hashing bounded (BoundedPasswordEncoder) the probe percentiles should barely move and
+ * the surplus logins come back as 429; compare with --app.auth.hashing.threads set to the core count
+ * and a large queue on the target to see the unbounded behaviour.
+ */
+@Component
+@Profile("bench")
+public class LoginFloodBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginFloodBenchmark.class);
+    private static final String FLOOD_EMAIL = "bench-flood@resolveit.local";
+    private static final String FLOOD_PASSWORD = "bench-flood-password";
+    private static final String ADMIN_EMAIL = "bench-admin@resolveit.local";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+
+    @Value("${app.bench.flood.target:http://localhost:8080}")
+    private String target;
+
+    @Value("${app.bench.flood.probe-paths:/api/complaints,/api/officers}")
+    private List<String> probePaths;
+
+    @Value("${app.bench.flood.probe-concurrency:4}")
+    private int probeConcurrency;
+
+    @Value("${app.bench.flood.concurrency:64}")
+    private int floodConcurrency;
+
+    @Value("${app.bench.flood.phase-seconds:15}")
+    private int phaseSeconds;
+
+    public LoginFloodBenchmark(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+    }
+
+    // Returns 0, or 1 when probes failed
+    public int run() throws InterruptedException {
+        if (userRepository.findByEmail(FLOOD_EMAIL).isEmpty()) {
+            userRepository.save(new User("Bench Flood", FLOOD_EMAIL, passwordEncoder.encode(FLOOD_PASSWORD), Role.ROLE_CITIZEN));
+        }
+        if (userRepository.findByEmail(ADMIN_EMAIL).isEmpty()) {
+            userRepository.save(new User("Bench Admin", ADMIN_EMAIL, "{noop}bench", Role.ROLE_ADMIN));
+        }
+        String token = jwtUtil.generateToken(ADMIN_EMAIL, Role.ROLE_ADMIN.name());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<HttpRequest> probes = probePaths.stream()
+                .map(p -> HttpRequest.newBuilder(URI.create(target + p))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .GET().build())
+                .toList();
+        HttpRequest login = HttpRequest.newBuilder(URI.create(target + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + FLOOD_EMAIL + "\",\"password\":\"" + FLOOD_PASSWORD + "\"}"))
+                .build();
+
+        log.info("[flood] target={} probes={}x{} flood={} phase={}s", target, probeConcurrency, probePaths,
+                floodConcurrency, phaseSeconds);
+        Probe baseline = probe(client, probes);
+        report("baseline", baseline);
+
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        Map<Integer, LongAdder> loginStatuses = new ConcurrentHashMap<>();
+        ExecutorService flood = Executors.newFixedThreadPool(floodConcurrency);
+        for (int i = 0; i < floodConcurrency; i++) {
+            flood.execute(() -> {
+                while (flooding.get()) {
+                    int status;
+                    try {
+                        status = client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException ex) {
+                        status = -1;
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    loginStatuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+                }
+            });
+        }
+        Probe underFlood = probe(client, probes);
+        flooding.set(false);
+        flood.shutdown();
+        flood.awaitTermination(1, TimeUnit.MINUTES);
+        report("login flood", underFlood);
+
+        long logins = loginStatuses.values().stream().mapToLong(LongAdder::sum).sum();
+        log.info("[flood] logins={} ({}/s) by status {}", logins, String.format("%.1f", logins / (double) phaseSeconds),
+                new TreeMap<>(loginStatuses));
+        return baseline.errors + underFlood.errors == 0 ? 0 : 1;
+    }
+
+    private record Probe(long[] sortedMicros, long errors) {}
+
+    private Probe probe(HttpClient client, List<HttpRequest> probes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(phaseSeconds);
+        List<long[]> perClient = new ArrayList<>();
+        LongAdder errors = new LongAdder();
+        ExecutorService pool = Executors.newFixedThreadPool(probeConcurrency);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int c = 0; c < probeConcurrency; c++) {
+            int offset = c;
+            results.add(pool.submit(() -> {
+                long[] latencies = new long[256];
+                int n = 0;
+                int next = offset;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = probes.get(next++ % probes.size());
+                    long s = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400) errors.increment();
+                    } catch (IOException ex) {
+                        errors.increment();
+                    }
+                    if (n == latencies.length) latencies = Arrays.copyOf(latencies, n * 2);
+                    latencies[n++] = (System.nanoTime() - s) / 1000;
+                }
+                return Arrays.copyOf(latencies, n);
+            }));
+        }
+        for (Future<long[]> f : results) {
+            try {
+                perClient.add(f.get());
+            } catch (ExecutionException ex) {
+                errors.increment();
+            }
+        }
+        pool.shutdown();
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Probe(all, errors.sum());
+    }
+
+    private void report(String phase, Probe probe) {
+        long[] sorted = probe.sortedMicros();
+        log.info("[flood] {}: dashboard requests={} errors={} p50={}ms p95={}ms p99={}ms max={}ms", phase,
+                sorted.length, probe.errors(), percentile(sorted, 50), percentile(sorted, 95),
+                percentile(sorted, 99), percentile(sorted, 100));
+    }
+
+    private static String percentile(long[] sortedMicros, double p) {
+        if (sortedMicros.length == 0) return "0";
+        int idx = Math.min(sortedMicros.length - 1, (int) Math.ceil(p / 100.0 * sortedMicros.length) - 1);
+        return String.format("%.2f", sortedMicros[Math.max(0, idx)] / 1000.0);
+    }
+}
@@ -0,0 +1,405 @@
+package com.resolveit.resloveitbackend.tools;
+
+import com.resolveit.resloveitbackend.Model.Officer;
+import com.resolveit.resloveitbackend.Model.User;
+import com.resolveit.resloveitbackend.enums.Role;
+import com.resolveit.resloveitbackend.repository.OfficerRepository;
+import com.resolveit.resloveitbackend.repository.UserRepository;
+import com.resolveit.resloveitbackend.security.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Replays the request mix recorded in the application logs against a running instance, keeping
+ * the recorded order and inter-arrival times (scaled by app.bench.replay.speed). Run it as the
+ * "replay" bench scenario, pointing at the rotated JSON logs:
+ *
+ *   mvn spring-boot:test-run -Dspring-boot.run.profiles=bench -Dspring-boot.run.arguments="--app.bench.scenario=replay
+ *       --app.bench.replay.logs=/var/log/resolveit/resolveitbackend.log* --app.bench.replay.target=http://localhost:8080"
+ *
+ * Requests come from the "[JWT] Incoming METHOD URI" lines; the "[JWT] Authenticated as ..." line of
+ * the same request id supplies the role. .gz files are streamed, never unpacked to disk. Each recorded
+ * user maps to one of app.bench.replay.users-per-role synthetic accounts (created on demand, tokens
+ * minted with the local JWT secret), so per-user sequences such as list-then-detail stay together.
+ *
+ * Limits: the logs carry no query strings or bodies, so only GETs are replayed by default; submit and
+ * reply POSTs get synthetic bodies when POST is enabled. Ids in paths are replayed as recorded and
+ * will 404 unless the target holds a copy of the data. JwtAuthFilter lines are sampled (1 in
+ * app.logging.auth-sample.keep-one-in requests), so the recorded rate is that fraction of the real
+ * one: capture with keep-one-in=1, or replay at the same factor as speed.
+ */
+@Component
+@Profile("bench")
+public class TrafficReplay {
+
+    private static final Logger log = LoggerFactory.getLogger(TrafficReplay.class);
+
+    private static final Pattern INCOMING = Pattern.compile(
+            "\\[JWT] Incoming (\\S+) (\\S+) Authorization header present=\\w+ tokenPresent=(\\w+)");
+    private static final Pattern AUTHENTICATED = Pattern.compile("\\[JWT] Authenticated as (?:User|Officer): (\\S+) role=(\\w+)");
+    private static final Pattern JSON_TIMESTAMP = Pattern.compile("\"@timestamp\":\"([^\"]+)\"");
+    private static final Pattern JSON_REQUEST_ID = Pattern.compile("\"requestId\":\"([^\"]+)\"");
+    private static final Pattern TEXT_REQUEST_ID = Pattern.compile("] \\[([A-Za-z0-9._-]{8,64})] ");
+    private static final Pattern ROTATED = Pattern.compile("(\\d{4}-\\d{2}-\\d{2})\\.(\\d+)");
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final Set<String> EMAIL_PARAM_PATHS = Set.of("/api/complaints/user", "/api/officer/complaints");
+    // How long a request waits for its "Authenticated as" line before it is replayed with a role guessed from the path
+    private static final Duration ROLE_WAIT = Duration.ofSeconds(5);
+    private static final String PASSWORD = "{noop}replay";
+
+    private final UserRepository userRepository;
+    private final OfficerRepository officerRepository;
+    private final JwtUtil jwtUtil;
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    @Value("${app.bench.replay.logs:logs/resolveitbackend.log*}")
+    private String logs;
+
+    @Value("${app.bench.replay.target:http://localhost:8080}")
+    private String target;
+
+    @Value("${app.bench.replay.speed:1.0}")
+    private double speed;
+
+    @Value("${app.bench.replay.max-requests:0}")
+    private long maxRequests;
+
+    @Value("${app.bench.replay.max-in-flight:256}")
+    private int maxInFlight;
+
+    @Value("${app.bench.replay.methods:GET}")
+    private Set<String> methods;
+
+    @Value("${app.bench.replay.users-per-role:20}")
+    private int usersPerRole;
+
+    public TrafficReplay(UserRepository userRepository, OfficerRepository officerRepository, JwtUtil jwtUtil) {
+        this.userRepository = userRepository;
+        this.officerRepository = officerRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    // One replayable request; role and email are filled in when the request's auth line is seen
+    private static final class Event {
+        final Instant at;
+        final String method;
+        final String uri;
+        final boolean withToken;
+        String email;
+        String role;
+
+        Event(Instant at, String method, String uri, boolean withToken) {
+            this.at = at;
+            this.method = method;
+            this.uri = uri;
+            this.withToken = withToken;
+        }
+
+        boolean resolved() {
+            return !withToken || role != null;
+        }
+    }
+
+    private static final class RouteStats {
+        final List<Long> latenciesMicros = new ArrayList<>();
+        int clientErrors;
+        int serverErrors;
+
+        synchronized void record(long micros, int status) {
+            latenciesMicros.add(micros);
+            if (status >= 500 || status < 0) serverErrors++;
+            else if (status >= 400) clientErrors++;
+        }
+    }
+
+    // Returns 1 when nothing could be replayed or the target failed, 0 otherwise
+    public int run() throws Exception {
+        List<Path> files = logFiles();
+        if (files.isEmpty()) {
+            log.error("[replay] no log files match {}", logs);
+            return 1;
+        }
+        log.info("[replay] {} file(s) from {} -> {} at {}x", files.size(), files.get(0).getParent(), target, speed);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+        AtomicLong sent = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        AtomicLong lateOver100ms = new AtomicLong();
+        AtomicLong maxLagNanos = new AtomicLong();
+        long[] clock = new long[2]; // recorded epoch-nanos and wall nanoTime of the first event
+
+        Consumer<Event> dispatch = e -> {
+            if (maxRequests > 0 && sent.get() >= maxRequests) return;
+            HttpRequest request = toRequest(e);
+            if (request == null) {
+                skipped.incrementAndGet();
+                return;
+            }
+            long recorded = e.at.getEpochSecond() * 1_000_000_000L + e.at.getNano();
+            if (sent.get() == 0 && clock[1] == 0) {
+                clock[0] = recorded;
+                clock[1] = System.nanoTime();
+            }
+            long due = clock[1] + (long) ((recorded - clock[0]) / speed);
+            long wait = due - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            inFlight.acquireUninterruptibly();
+            long lag = System.nanoTime() - due;
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+            if (lag > 100_000_000L) lateOver100ms.incrementAndGet();
+
+            RouteStats stats = routes.computeIfAbsent(e.method + " " + routeOf(e.uri), k -> new RouteStats());
+            long start = System.nanoTime();
+            sent.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                stats.record((System.nanoTime() - start) / 1000, failure != null ? -1 : response.statusCode());
+                inFlight.release();
+            });
+        };
+
+        long wallStart = System.nanoTime();
+        long parsed = 0;
+        Instant first = null;
+        Instant last = null;
+        for (Path file : files) {
+            ParseResult r = replayFile(file, dispatch);
+            parsed += r.events;
+            if (first == null) first = r.first;
+            if (r.last != null) last = r.last;
+            if (maxRequests > 0 && sent.get() >= maxRequests) break;
+        }
+        inFlight.acquireUninterruptibly(maxInFlight);
+        double wallSeconds = (System.nanoTime() - wallStart) / 1_000_000_000.0;
+
+        report(routes, parsed, sent.get(), skipped.get(), first, last, wallSeconds, maxLagNanos.get(), lateOver100ms.get());
+        long failures = routes.values().stream().mapToLong(s -> s.serverErrors).sum();
+        return sent.get() == 0 || failures > sent.get() / 2 ? 1 : 0;
+    }
+
+    private record ParseResult(long events, Instant first, Instant last) {}
+
+    // Streams one file, pairing each Incoming line with its Authenticated line by request id
+    private ParseResult replayFile(Path file, Consumer<Event> dispatch) throws IOException {
+        LinkedHashMap<String, Event> pending = new LinkedHashMap<>();
+        long events = 0;
+        long unkeyed = 0;
+        Instant first = null;
+        Instant last = null;
+        try (InputStream raw = Files.newInputStream(file);
+             InputStream in = file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(raw, 64 * 1024) : raw;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.contains("[JWT] ")) continue;
+                Instant at = timestamp(line);
+                if (at == null) continue;
+                String requestId = requestId(line);
+
+                Matcher m = INCOMING.matcher(line);
+                if (m.find()) {
+                    Event e = new Event(at, m.group(1), m.group(2), Boolean.parseBoolean(m.group(3)));
+                    pending.put(requestId != null ? requestId : "#" + unkeyed++, e);
+                    events++;
+                    if (first == null) first = at;
+                    last = at;
+                } else if (requestId != null && (m = AUTHENTICATED.matcher(line)).find()) {
+                    Event e = pending.get(requestId);
+                    if (e != null) {
+                        e.email = m.group(1);
+                        e.role = m.group(2);
+                    }
+                }
+                flush(pending, at, false, dispatch);
+            }
+        }
+        flush(pending, null, true, dispatch);
+        return new ParseResult(events, first, last);
+    }
+
+    // Emits from the head only, so requests go out in recorded order
+    private void flush(LinkedHashMap<String, Event> pending, Instant now, boolean all, Consumer<Event> dispatch) {
+        Iterator<Event> it = pending.values().iterator();
+        while (it.hasNext()) {
+            Event head = it.next();
+            boolean expired = now != null && head.at.plus(ROLE_WAIT).isBefore(now);
+            if (!all && !head.resolved() && !expired && pending.size() < 10_000) return;
+            it.remove();
+            dispatch.accept(head);
+        }
+    }
+
+    private HttpRequest toRequest(Event e) {
+        if (!methods.contains(e.method) || e.uri.startsWith("/api/auth/")) return null;
+
+        String role = e.role != null ? e.role : roleFromPath(e.uri);
+        String email = syntheticEmail(role, e.email != null ? e.email : e.uri);
+        String uri = e.uri;
+        if (EMAIL_PARAM_PATHS.contains(uri) || uri.equals("/api/complaints/submit")) {
+            uri += "?email=" + URLEncoder.encode(email, StandardCharsets.UTF_8);
+        }
+
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(target + uri)).timeout(Duration.ofSeconds(30));
+        if (e.withToken) b.header("Authorization", "Bearer " + tokenFor(email, role));
+        if (e.method.equals("GET")) return b.GET().build();
+
+        String body;
+        if (e.uri.equals("/api/complaints/submit")) {
+            body = "{\"title\":\"Replayed complaint\",\"description\":\"Generated by TrafficReplay\",\"category\":\"Replay\",\"isAnonymous\":false}";
+        } else if (e.uri.endsWith("/replies")) {
+            body = "{\"content\":\"Replayed reply\"}";
+        } else {
+            body = "{}";
+        }
+        return b.header("Content-Type", "application/json")
+                .method(e.method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String roleFromPath(String uri) {
+        if (uri.startsWith("/api/admin/")) return Role.ROLE_ADMIN.name();
+        if (uri.startsWith("/api/officer/")) return Role.ROLE_OFFICER.name();
+        return Role.ROLE_CITIZEN.name();
+    }
+
+    // Stable mapping from a recorded user to one of usersPerRole synthetic users of the same role
+    private String syntheticEmail(String role, String recordedUser) {
+        int slot = Math.floorMod(recordedUser.hashCode(), Math.max(1, usersPerRole));
+        String kind = role.replace("ROLE_", "").toLowerCase();
+        return "replay-" + kind + "-" + slot + "@resolveit.local";
+    }
+
+    private String tokenFor(String email, String role) {
+        return tokens.computeIfAbsent(email, k -> {
+            if (Role.ROLE_OFFICER.name().equals(role)) {
+                if (officerRepository.findByEmail(email).isEmpty()) {
+                    officerRepository.save(Officer.builder().name("Replay Officer").email(email).password(PASSWORD)
+                            .department("Replay").role(role).build());
+                }
+            } else if (userRepository.findByEmail(email).isEmpty()) {
+                userRepository.save(new User("Replay User", email, PASSWORD, Role.valueOf(role)));
+            }
+            return jwtUtil.generateToken(email, role);
+        });
+    }
+
+    private static Instant timestamp(String line) {
+        String text;
+        Matcher json = JSON_TIMESTAMP.matcher(line);
+        if (json.find()) {
+            text = json.group(1);
+        } else {
+            int space = line.indexOf(' ');
+            if (space <= 0) return null;
+            text = line.substring(0, space);
+        }
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static String requestId(String line) {
+        Matcher m = JSON_REQUEST_ID.matcher(line);
+        if (m.find()) return m.group(1);
+        m = TEXT_REQUEST_ID.matcher(line);
+        return m.find() ? m.group(1) : null;
+    }
+
+    private static String routeOf(String uri) {
+        return NUMERIC_SEGMENT.matcher(uri).replaceAll("/{id}");
+    }
+
+    // Rotated files by date and index, then the live file, i.e. oldest first
+    private List<Path> logFiles() throws IOException {
+        Path pattern = Path.of(logs).toAbsolutePath();
+        Path dir = pattern.getParent();
+        if (dir == null || !Files.isDirectory(dir)) return List.of();
+        PathMatcher matcher = dir.getFileSystem().getPathMatcher("glob:" + pattern.getFileName());
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isRegularFile(p) && matcher.matches(p.getFileName())) files.add(p);
+            }
+        }
+        files.sort(Comparator.comparing(TrafficReplay::rotationKey));
+        return files;
+    }
+
+    private static String rotationKey(Path file) {
+        Matcher m = ROTATED.matcher(file.getFileName().toString());
+        return m.find() ? m.group(1) + String.format("%010d", Long.parseLong(m.group(2))) : "~";
+    }
+
+    private void report(Map<String, RouteStats> routes, long parsed, long sent, long skipped, Instant first, Instant last,
+                        double wallSeconds, long maxLagNanos, long late) {
+        double recordedSeconds = first == null || last == null ? 0 : Duration.between(first, last).toMillis() / 1000.0;
+        log.info("[replay] parsed={} sent={} skipped={} recordedSpan={}s wall={}s achieved={}/s maxLag={}ms lateOver100ms={}",
+                parsed, sent, skipped, String.format("%.1f", recordedSeconds), String.format("%.1f", wallSeconds),
+                String.format("%.1f", sent / Math.max(wallSeconds, 0.001)), maxLagNanos / 1_000_000, late);
+
+        routes.entrySet().stream()
+                .sorted((a, b) -> Integer.compare(b.getValue().latenciesMicros.size(), a.getValue().latenciesMicros.size()))
+                .forEach(e -> {
+                    RouteStats s = e.getValue();
+                    long[] sorted;
+                    synchronized (s) {
+                        sorted = s.latenciesMicros.stream().mapToLong(Long::longValue).toArray();
+                    }
+                    Arrays.sort(sorted);
+                    log.info("[replay] {} n={} 4xx={} 5xx/failed={} p50={}ms p95={}ms p99={}ms max={}ms", e.getKey(),
+                            sorted.length, s.clientErrors, s.serverErrors, percentile(sorted, 50),
+                            percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100));
+                });
+    }
+
+    private static String percentile(long[] sortedMicros, int p) {
+        if (sortedMicros.length == 0) return "0";
+        int idx = Math.min(sortedMicros.length - 1, (int) Math.ceil(p / 100.0 * sortedMicros.length) - 1);
+        return String.format("%.2f", sortedMicros[Math.max(0, idx)] / 1000.0);
+    }
+}
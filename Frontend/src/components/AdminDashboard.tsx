@@ -1,5 +1,7 @@
 import React, { useState, useEffect } from "react";
 import { useAuth } from "../context/AuthContext";
+import { useComplaints } from "../context/ComplaintContext";
+import { AnalyticsDelta } from "../hooks/useComplaintEvents";
 import { useNavigate } from 'react-router-dom';
 import {
   Shield, Search, Filter, ChevronDown, MessageSquare, CheckCircle2,
@@ -17,8 +19,24 @@ import { PieChart, Pie, Cell, BarChart, Bar, XAxis, YAxis, Tooltip, ResponsiveCo
 
 import RoleGuard from './RoleGuard';
 
+// statusBreakdown keys that also have a top-level counter in the analytics overview
+const ANALYTICS_COUNTERS: Record<string, string> = { pending: 'pending', assigned: 'assigned', 'in-progress': 'inProgress', resolved: 'resolved' };
+
+const applyAnalyticsDelta = (analytics: any, delta: AnalyticsDelta) => {
+  if (!analytics) return analytics;
+  const next = { ...analytics, statusBreakdown: { ...(analytics.statusBreakdown || {}) } };
+  next.totalComplaints = (next.totalComplaints || 0) + delta.totalComplaints;
+  Object.entries(delta.statusBreakdown || {}).forEach(([key, change]) => {
+    next.statusBreakdown[key] = (next.statusBreakdown[key] || 0) + change;
+    const counter = ANALYTICS_COUNTERS[key];
+    if (counter) next[counter] = (next[counter] || 0) + change;
+  });
+  return next;
+};
+
 export const AdminDashboard: React.FC = () => {
   const { getAuthHeaders, token } = useAuth();
+  const { liveUpdates, subscribeComplaintEvents } = useComplaints();
 
   const [complaints, setComplaints] = useState<Complaint[]>([]);
   const [selectedComplaint, setSelectedComplaint] = useState<Complaint | null>(null);
@@ -49,24 +67,47 @@ export const AdminDashboard: React.FC = () => {
   const [officers, setOfficers] = useState<{ id: number; email: string; name: string; department?: string }[]>([]);
   const [analytics, setAnalytics] = useState<any | null>(null);
 
-  // Auto-refresh intervals
+  // Fallback refresh intervals, used only while the live event stream is down
   const COMPLAINTS_POLL_INTERVAL = 15000; // 15 seconds
   const ANALYTICS_POLL_INTERVAL = 30000; // 30 seconds
+  const EVENT_REFETCH_DELAY = 500; // coalesce bursts of events into one refetch
 
   // Fetch complaints
   useEffect(() => {
     fetchComplaints();
     fetchAnalytics();
+  }, [token]);
 
-    // Set up polling for complaints
+  useEffect(() => {
+    if (liveUpdates) return;
     const complaintsPoll = setInterval(fetchComplaints, COMPLAINTS_POLL_INTERVAL);
     const analyticsPoll = setInterval(fetchAnalytics, ANALYTICS_POLL_INTERVAL);
 
-    // Cleanup on unmount
+    // Cleanup on unmount or once the stream reconnects
     return () => {
       clearInterval(complaintsPoll);
       clearInterval(analyticsPoll);
     };
+  }, [token, liveUpdates]);
+
+  // Live updates: refetch the list once per burst and patch analytics counters in place
+  useEffect(() => {
+    let complaintsTimer: ReturnType<typeof setTimeout> | null = null;
+    let analyticsTimer: ReturnType<typeof setTimeout> | null = null;
+    const unsubscribe = subscribeComplaintEvents(event => {
+      if (complaintsTimer) clearTimeout(complaintsTimer);
+      complaintsTimer = setTimeout(fetchComplaints, EVENT_REFETCH_DELAY);
+      if (event.kind === 'complaints' && event.analytics) setAnalytics((prev: any) => applyAnalyticsDelta(prev, event.analytics!));
+      if (event.kind === 'ready' || !event.analytics?.complete) {
+        if (analyticsTimer) clearTimeout(analyticsTimer);
+        analyticsTimer = setTimeout(fetchAnalytics, EVENT_REFETCH_DELAY);
+      }
+    });
+    return () => {
+      unsubscribe();
+      if (complaintsTimer) clearTimeout(complaintsTimer);
+      if (analyticsTimer) clearTimeout(analyticsTimer);
+    };
   }, [token]);
 
   const fetchAnalytics = async () => {
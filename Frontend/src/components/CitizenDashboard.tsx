@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from "react";
 import { useAuth } from "../context/AuthContext";
+import { useComplaints } from "../context/ComplaintContext";
 import { useNavigate } from 'react-router-dom';
 import api from "../lib/api";
 import {
@@ -22,6 +23,7 @@ const API_BASE = "http://localhost:8080/api";
 
 export const CitizenDashboard: React.FC = () => {
   const { user, getAuthHeaders, token } = useAuth(); // ✅ added getAuthHeaders and token
+  const { liveUpdates, subscribeComplaintEvents } = useComplaints();
 
   const [complaints, setComplaints] = useState<any[]>([]);
   const [showForm, setShowForm] = useState(false);
@@ -35,8 +37,9 @@ export const CitizenDashboard: React.FC = () => {
 
   const userComplaints = Array.isArray(complaints) ? complaints : [];
 
-  // Auto-refresh polling interval
+  // Fallback polling interval, used only while the live event stream is down
   const COMPLAINTS_POLL_INTERVAL = 15000; // 15 seconds
+  const EVENT_REFETCH_DELAY = 500; // coalesce bursts of events into one refetch
 
   // normalize helpers (backend may return UPPERCASE / underscored enums)
   const normalizeStatus = (s: any) => {
@@ -81,12 +84,27 @@ export const CitizenDashboard: React.FC = () => {
 
   useEffect(() => {
     fetchComplaints();
+  }, [user]);
 
-    // Set up polling for complaints
+  useEffect(() => {
+    if (liveUpdates) return;
     const complaintsPoll = setInterval(fetchComplaints, COMPLAINTS_POLL_INTERVAL);
 
-    // Cleanup on unmount
+    // Cleanup on unmount or once the stream reconnects
     return () => clearInterval(complaintsPoll);
+  }, [user, liveUpdates]);
+
+  // The server only streams changes to this citizen's own complaints
+  useEffect(() => {
+    let refetchTimer: ReturnType<typeof setTimeout> | null = null;
+    const unsubscribe = subscribeComplaintEvents(() => {
+      if (refetchTimer) clearTimeout(refetchTimer);
+      refetchTimer = setTimeout(fetchComplaints, EVENT_REFETCH_DELAY);
+    });
+    return () => {
+      unsubscribe();
+      if (refetchTimer) clearTimeout(refetchTimer);
+    };
   }, [user]);
 
   // ✅ Handle form submission
@@ -2,12 +2,14 @@ import React, { useEffect, useMemo, useState } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
 import { useComplaints } from '../context/ComplaintContext';
-import { Complaint } from '../types';
+import { Complaint, StatusHistory } from '../types';
 import { Header } from './shared/Header';
 import { Footer } from './shared/Footer';
 import { ComplaintCard } from './shared/ComplaintCard';
 import { FileImage, ArrowLeft, UserCheck, X, Download, Eye, FileText, Music, Play, CheckCircle2 } from 'lucide-react';
 
+const REPLIES_POLL_INTERVAL = 5000; // 5 seconds
+
 const statusSteps = [
   { key: 'pending', label: 'Submitted' },
   { key: 'assigned', label: 'Assigned' },
@@ -47,7 +49,7 @@ export const ComplaintDetails: React.FC = () => {
   const { id } = useParams();
   const navigate = useNavigate();
   const { user, isAdmin, isOfficer, isCitizen, token } = useAuth();
-  const { complaints, officers, addReply, addNote, updateComplaintStatus, updateComplaintPriority, assignComplaint } = useComplaints();
+  const { complaints, officers, addReply, addNote, updateComplaintStatus, updateComplaintPriority, assignComplaint, refreshReplies, liveUpdates } = useComplaints();
 
   const [complaint, setComplaint] = useState<Complaint | null>(() => {
     if (!id) return null;
@@ -57,6 +59,7 @@ export const ComplaintDetails: React.FC = () => {
   const [replyContent, setReplyContent] = useState('');
   const [noteContent, setNoteContent] = useState('');
   const [selectedAttachment, setSelectedAttachment] = useState<string | null>(null);
+  const [statusHistory, setStatusHistory] = useState<StatusHistory[]>([]);
 
   // role-specific UI state
   const [selectedOfficer, setSelectedOfficer] = useState<string | undefined>(undefined);
@@ -123,6 +126,45 @@ export const ComplaintDetails: React.FC = () => {
     return () => { mounted = false; };
   }, [id, complaints]);
 
+  // Status history is no longer part of the complaint payload; page through the timeline endpoint.
+  // Re-fetched whenever the status or assignee changes, since those are what add history rows.
+  const complaintId = complaint?.id;
+  const complaintStatus = complaint?.status;
+  const complaintAssignee = complaint?.assignedTo;
+  useEffect(() => {
+    if (complaintId === undefined) return;
+    let mounted = true;
+    const loadHistory = async () => {
+      try {
+        const api = (await import('../lib/api')).default;
+        const all: StatusHistory[] = [];
+        let cursor: string | undefined;
+        do {
+          const page = await api.getStatusHistory(complaintId, cursor, 50, token);
+          all.push(...(page?.items || []));
+          cursor = page?.nextCursor || undefined;
+        } while (cursor && mounted);
+        if (mounted) setStatusHistory(all);
+      } catch (err) {
+        console.warn('Could not fetch status history:', err);
+      }
+    };
+    loadHistory();
+    return () => { mounted = false; };
+  }, [complaintId, complaintStatus, complaintAssignee, token]);
+
+  // Lists do not carry replies, so load the thread when the complaint is opened
+  useEffect(() => {
+    if (complaintId !== undefined) refreshReplies(complaintId);
+  }, [complaintId]);
+
+  // New replies arrive via the event stream; only poll the thread tail while it is down
+  useEffect(() => {
+    if (complaintId === undefined || liveUpdates) return;
+    const repliesPollInterval = setInterval(() => refreshReplies(complaintId), REPLIES_POLL_INTERVAL);
+    return () => clearInterval(repliesPollInterval);
+  }, [complaintId, liveUpdates]);
+
   useEffect(() => {
     // keep local state updated if context changes
     if (!complaint || !complaints) return;
@@ -142,8 +184,8 @@ export const ComplaintDetails: React.FC = () => {
     const s = normalizeStatus(complaint.status);
 
     // Use status history if available
-    if (complaint.statusHistory && complaint.statusHistory.length > 0) {
-      complaint.statusHistory.forEach(history => {
+    if (statusHistory.length > 0) {
+      statusHistory.forEach(history => {
         const statusLabel = normalizeStatus(history.status);
         events.push({
           label: `Status: ${statusLabel}${history.notes ? ' - ' + history.notes : ''}`,
@@ -177,7 +219,7 @@ export const ComplaintDetails: React.FC = () => {
     }
 
     return events;
-  }, [complaint]);
+  }, [complaint, statusHistory]);
 
   const handleSendReply = async () => {
     if (!complaint) return;
@@ -32,10 +32,7 @@ export const OfficerDashboard: React.FC = () => {
   const [escalationLevel, setEscalationLevel] = useState(1);
   const navigate = useNavigate();
 
-  // Auto-refresh polling interval
-  const COMPLAINTS_POLL_INTERVAL = 12000; // 12 seconds
-
-  // Use context complaints and sync to local state
+  // Use context complaints and sync to local state (the context keeps them live via the event stream)
   useEffect(() => {
     if (contextComplaints && contextComplaints.length > 0) {
       console.log('Officer Dashboard: Received complaints from context:', contextComplaints.length);
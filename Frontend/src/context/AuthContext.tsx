@@ -2,6 +2,7 @@ import React, {
   createContext,
   useContext,
   useEffect,
+  useRef,
   useState,
   ReactNode,
 } from "react";
@@ -37,6 +38,9 @@ const AuthContext = createContext<AuthContextType | undefined>(undefined);
 
 const API_BASE = "http://localhost:8080/api";
 
+// Renew the access token this long before it expires
+const REFRESH_MARGIN_MS = 60_000;
+
 const normalizeRole = (roleRaw: any): UserRole => {
   if (!roleRaw) return 'citizen';
   const r = String(roleRaw).toLowerCase();
@@ -63,6 +67,72 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
     localStorage.getItem("resolveit_token")
   );
   const [loading, setLoading] = useState(false);
+  const [expiresAt, setExpiresAt] = useState<number | null>(() => {
+    const stored = localStorage.getItem("resolveit_token_expires_at");
+    return stored ? Number(stored) : null;
+  });
+  // A refresh token is single-use, so concurrent callers must share one refresh request
+  const refreshing = useRef<Promise<string | null> | null>(null);
+
+  // Access token another tab stored, if it is still good for more than the refresh margin
+  const storedFreshToken = (): string | null => {
+    const stored = localStorage.getItem("resolveit_token");
+    const expiry = Number(localStorage.getItem("resolveit_token_expires_at"));
+    if (!stored || stored === token || !expiry || expiry - Date.now() <= REFRESH_MARGIN_MS) return null;
+    setToken(stored);
+    setExpiresAt(expiry);
+    return stored;
+  };
+
+  const rotate = async (): Promise<string | null> => {
+    // Another tab may have rotated while this one waited for the lock
+    const adopted = storedFreshToken();
+    if (adopted) return adopted;
+    const refreshToken = localStorage.getItem("resolveit_refresh_token");
+    if (!refreshToken) return null;
+    try {
+      const res = await fetch(`${API_BASE}/auth/refresh`, {
+        method: "POST",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ refreshToken }),
+      });
+      if (!res.ok) throw new Error("Refresh failed");
+      const data = await res.json();
+      storeTokens(data);
+      return data.token as string;
+    } catch {
+      // Without Web Locks two tabs can still race; the server rejects the loser without revoking,
+      // so give the winner a moment to store its tokens before giving up
+      await new Promise((resolve) => setTimeout(resolve, 1000));
+      const winner = storedFreshToken();
+      if (winner) return winner;
+      logout();
+      return null;
+    }
+  };
+
+  // ✅ Renew the access token with the refresh token (no password check on the server)
+  const refreshSession = (): Promise<string | null> => {
+    if (refreshing.current) return refreshing.current;
+    if (!localStorage.getItem("resolveit_refresh_token")) return Promise.resolve(null);
+
+    // One refresh at a time across all tabs of this origin
+    const run = navigator.locks
+      ? navigator.locks.request("resolveit-refresh", rotate)
+      : rotate();
+    refreshing.current = run.finally(() => {
+      refreshing.current = null;
+    });
+    return refreshing.current;
+  };
+
+  // ✅ Renew shortly before the access token expires
+  useEffect(() => {
+    if (!token || !expiresAt) return;
+    const delay = Math.max(0, expiresAt - Date.now() - REFRESH_MARGIN_MS);
+    const timer = setTimeout(() => { refreshSession(); }, delay);
+    return () => clearTimeout(timer);
+  }, [token, expiresAt]);
 
   // ✅ Restore session if token exists
   useEffect(() => {
@@ -74,7 +144,11 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
           headers: { Authorization: `Bearer ${token}` },
         });
 
-        if (!res.ok) throw new Error("Session expired");
+        if (!res.ok) {
+          // Access token expired while the tab was closed; a new one re-runs this effect
+          if (await refreshSession()) return;
+          throw new Error("Session expired");
+        }
 
         const data = await res.json();
         const restoredUser: User = {
@@ -159,7 +233,6 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
 
   // ✅ Common handler for successful login/register
   const handleAuthSuccess = (data: any) => {
-    const token = data.token;
     const role = normalizeRole(data.role);
 
     const userData: User = {
@@ -169,17 +242,37 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
       role,
     };
 
-    setToken(token);
+    storeTokens(data);
     setUser(userData);
-    localStorage.setItem("resolveit_token", token);
     localStorage.setItem("resolveit_user", JSON.stringify(userData));
   };
 
+  const storeTokens = (data: any) => {
+    const expiry = data.expiresIn ? Date.now() + data.expiresIn * 1000 : null;
+    setToken(data.token);
+    setExpiresAt(expiry);
+    localStorage.setItem("resolveit_token", data.token);
+    if (data.refreshToken) localStorage.setItem("resolveit_refresh_token", data.refreshToken);
+    if (expiry) localStorage.setItem("resolveit_token_expires_at", String(expiry));
+  };
+
   // ✅ Logout & cleanup
   const logout = () => {
+    const refreshToken = localStorage.getItem("resolveit_refresh_token");
+    if (refreshToken) {
+      // Best effort: revoke server-side so the refresh token cannot be reused
+      fetch(`${API_BASE}/auth/logout`, {
+        method: "POST",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ refreshToken }),
+      }).catch(() => {});
+    }
     setUser(null);
     setToken(null);
+    setExpiresAt(null);
     localStorage.removeItem("resolveit_token");
+    localStorage.removeItem("resolveit_refresh_token");
+    localStorage.removeItem("resolveit_token_expires_at");
     localStorage.removeItem("resolveit_user");
   };
 
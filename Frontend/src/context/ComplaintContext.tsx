@@ -1,7 +1,8 @@
-import React, { createContext, useContext, useState, ReactNode, useEffect } from 'react';
+import React, { createContext, useContext, useState, ReactNode, useEffect, useRef } from 'react';
 import { Complaint, ComplaintStatus, ComplaintPriority, Note, Reply, Officer } from '../types';
 import api from '../lib/api';
 import { useAuth } from './AuthContext';
+import { useComplaintEvents, ComplaintEvent } from '../hooks/useComplaintEvents';
 
 interface ComplaintContextType {
   complaints: Complaint[];
@@ -12,6 +13,10 @@ interface ComplaintContextType {
   assignComplaint: (id: number | string, officerEmail: string) => Promise<void>;
   addNote: (complaintId: number | string, note: Omit<Note, 'id' | 'createdAt'>) => Promise<void>;
   addReply: (complaintId: number | string, reply: Omit<Reply, 'id' | 'createdAt'>) => Promise<void>;
+  refreshReplies: (complaintId: number | string) => Promise<void>;
+  // Live updates: true while the server push stream is connected (polling is only a fallback)
+  liveUpdates: boolean;
+  subscribeComplaintEvents: (listener: (event: ComplaintEvent) => void) => () => void;
   getOfficerWorkload: (officerEmail: string) => { assigned: number; inProgress: number; completed: number; };
 }
 
@@ -27,6 +32,18 @@ const normalizeStatus = (s?: string) => {
 
 const normalizePriority = (p?: string) => (p ? String(p).toLowerCase() : 'medium');
 
+const normalizeReply = (r: any): Reply => {
+  const isAdminReply = typeof r.isAdminReply !== 'undefined' ? r.isAdminReply : (typeof r.adminReply !== 'undefined' ? r.adminReply : false);
+  return {
+    id: r.id,
+    content: r.content,
+    createdBy: r.createdBy || r.authorName || r.createdBy,
+    authorName: isAdminReply ? 'Authority' : (r.createdBy || r.authorName || 'Citizen'),
+    createdAt: r.createdAt || r.createdAt,
+    isAdminReply,
+  } as Reply;
+};
+
 const normalizeComplaint = (c: any): Complaint => ({
   id: c.id,
   referenceNumber: c.referenceNumber,
@@ -52,14 +69,7 @@ const normalizeComplaint = (c: any): Complaint => ({
   user: c.user ? { id: c.user.id, email: c.user.email, name: c.user.name } : undefined,
   assignedOfficer: c.assignedOfficer ? { ...c.assignedOfficer } : undefined,
   notes: c.notes || [],
-  replies: (c.replies || []).map((r: any) => ({
-    id: r.id,
-    content: r.content,
-    createdBy: r.createdBy || r.authorName || r.createdBy,
-    authorName: (typeof r.isAdminReply !== 'undefined' ? r.isAdminReply : (typeof r.adminReply !== 'undefined' ? r.adminReply : false)) ? 'Authority' : (r.createdBy || r.authorName || 'Citizen'),
-    createdAt: r.createdAt || r.createdAt,
-    isAdminReply: typeof r.isAdminReply !== 'undefined' ? r.isAdminReply : (typeof r.adminReply !== 'undefined' ? r.adminReply : false),
-  })),
+  replies: (c.replies || []).map(normalizeReply),
 
   feedback: c.feedback || undefined,
 });
@@ -68,19 +78,29 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
   const { user, token } = useAuth();
   const [complaints, setComplaints] = useState<Complaint[]>([]);
   const [officers, setOfficers] = useState<Officer[]>([]);
+  // Latest list for callbacks that outlive a render (e.g. thread polling timers)
+  const complaintsRef = useRef<Complaint[]>(complaints);
+  complaintsRef.current = complaints;
 
-  // Polling intervals (in milliseconds)
+  // Polling intervals (in milliseconds); complaints are only polled while the event stream is down
   const COMPLAINTS_POLL_INTERVAL = 10000; // 10 seconds
+  const EVENT_REFETCH_DELAY = 300; // coalesce bursts (e.g. bulk updates) into one refetch
   const OFFICERS_POLL_INTERVAL = 30000; // 30 seconds
 
+  // Server watermark of the last list fetch; later fetches only ask for what changed since then.
+  // A watermark older than the server's tombstone retention always gets the full list back.
+  const FULL_SYNC_WATERMARK = '1970-01-01T00:00:00';
+  const watermarkRef = useRef<string | null>(null);
+
   const fetchComplaints = async () => {
     try {
+      const since = watermarkRef.current ?? FULL_SYNC_WATERMARK;
       console.log('fetchComplaints: user=', user?.email, 'role=', user?.role, 'tokenPresent=', !!token);
       let data;
       if (user?.role === 'admin') {
         // Admin gets all complaints
         console.log('Fetching ALL complaints (admin)');
-        data = await api.getAllComplaints(token ?? undefined);
+        data = await api.getAllComplaints(token ?? undefined, since);
       } else if (user?.role === 'officer') {
         // Officer gets only assigned complaints
         if (!user?.email) {
@@ -89,7 +109,7 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
           return;
         }
         console.log('Fetching officer complaints for:', user.email);
-        data = await api.getOfficerComplaints(user.email, token ?? undefined);
+        data = await api.getOfficerComplaints(user.email, token ?? undefined, since);
         console.log('Officer complaints raw data:', data);
       } else {
         // Citizen gets only their own complaints
@@ -99,13 +119,15 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
           return;
         }
         console.log('Fetching citizen complaints for:', user.email);
-        data = await api.getUserComplaints(user.email, token ?? undefined);
+        data = await api.getUserComplaints(user.email, token ?? undefined, since);
       }
 
       console.log('Data received from API:', data);
-      console.log('Is data an array?', Array.isArray(data), 'Type:', typeof data);
+      const delta = data && !Array.isArray(data) && Array.isArray(data.items) ? data : null;
+      const rows = delta ? delta.items : data;
+      console.log('Is data an array?', Array.isArray(rows), 'Type:', typeof data);
       
-      const list = Array.isArray(data) ? data.map((complaint, idx) => {
+      const list = Array.isArray(rows) ? rows.map((complaint: any, idx: number) => {
         try {
           const normalized = normalizeComplaint(complaint);
           console.log(`✓ Complaint ${idx} normalized successfully:`, normalized.id);
@@ -114,11 +136,27 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
           console.error(`✗ Error normalizing complaint ${idx}:`, complaint, err);
           return null;
         }
-      }).filter(c => c !== null) : [];
+      }).filter((c: Complaint | null): c is Complaint => c !== null) : [];
       
       console.log('Normalized complaints count:', list.length);
-      console.log('Final complaints list:', list);
-      setComplaints(list);
+      // List rows carry no replies; keep any thread already loaded for a complaint (see refreshReplies)
+      const withThreads = (prev: Complaint[], rows: Complaint[]) => {
+        const threads = new Map(prev.map(c => [String(c.id), c.replies] as const));
+        return rows.map(c => ({ ...c, replies: threads.get(String(c.id)) || c.replies }));
+      };
+      if (delta && !delta.full) {
+        // Upsert changed rows and drop the ones that left this list
+        const removed = new Set((delta.removedIds || []).map(String));
+        const changed = new Map(list.map(c => [String(c.id), c] as const));
+        setComplaints(prev => [
+          ...prev.filter(c => !removed.has(String(c.id)) && !changed.has(String(c.id))),
+          ...withThreads(prev, [...changed.values()]),
+        ]);
+      } else {
+        console.log('Final complaints list:', list);
+        setComplaints(prev => withThreads(prev, list));
+      }
+      watermarkRef.current = delta ? delta.watermark : null;
     } catch (err) {
       console.error('Error fetching complaints:', err);
     }
@@ -140,14 +178,36 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
     }
   };
 
-  // Initial fetch + Setup polling
+  // Server push: one stream per session, fanned out to any dashboard that subscribes
+  const listenersRef = useRef(new Set<(event: ComplaintEvent) => void>());
+  const fetchComplaintsRef = useRef(fetchComplaints);
+  fetchComplaintsRef.current = fetchComplaints;
+  const refetchTimerRef = useRef<ReturnType<typeof setTimeout> | null>(null);
+
+  const refreshRepliesRef = useRef<(complaintId: number | string) => Promise<void>>();
+
+  const liveUpdates = useComplaintEvents(user ? token : null, (event) => {
+    listenersRef.current.forEach(listener => listener(event));
+    // New replies only need the thread tail; anything else refetches the list once per burst
+    if (event.kind === 'complaints' && event.changes.every(c => c.type === 'REPLY_ADDED')) {
+      new Set(event.changes.map(c => c.id)).forEach(id => refreshRepliesRef.current?.(id));
+      return;
+    }
+    if (refetchTimerRef.current) clearTimeout(refetchTimerRef.current);
+    refetchTimerRef.current = setTimeout(() => fetchComplaintsRef.current(), EVENT_REFETCH_DELAY);
+  });
+
+  const subscribeComplaintEvents = (listener: (event: ComplaintEvent) => void) => {
+    listenersRef.current.add(listener);
+    return () => { listenersRef.current.delete(listener); };
+  };
+
+  // Initial fetch + officers polling
   useEffect(() => { 
+    watermarkRef.current = null;
     fetchComplaints();
     fetchOfficers();
 
-    // Set up polling for complaints
-    const complaintsPollInterval = setInterval(fetchComplaints, COMPLAINTS_POLL_INTERVAL);
-
     // Set up polling for officers (only if admin)
     let officersPollInterval: NodeJS.Timeout | null = null;
     if (user?.role === 'admin') {
@@ -156,11 +216,17 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
 
     // Cleanup intervals on unmount or when user/token changes
     return () => {
-      clearInterval(complaintsPollInterval);
       if (officersPollInterval) clearInterval(officersPollInterval);
     };
   }, [user, token]);
 
+  // Fallback polling for complaints while the event stream is unavailable
+  useEffect(() => {
+    if (liveUpdates) return;
+    const complaintsPollInterval = setInterval(fetchComplaints, COMPLAINTS_POLL_INTERVAL);
+    return () => clearInterval(complaintsPollInterval);
+  }, [user, token, liveUpdates]);
+
   const addComplaint = async (data: Omit<Complaint, 'id' | 'status' | 'priority' | 'submittedAt' | 'notes' | 'replies'> & { files?: File[] }) => {
     try {
       const res = await api.submitComplaint(data, user?.email ?? '', token ?? undefined);
@@ -246,15 +312,45 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
   const addReply = async (complaintId: number | string, reply: Omit<Reply, 'id' | 'createdAt'>) => {
     try {
       const created = await api.addReply(complaintId, reply.content, reply.isAdminReply ?? true, token ?? undefined);
-      setComplaints(prev => prev.map(c => (c.id === complaintId ? { ...c, replies: [...c.replies, created as Reply] } : c)));
-      // Refresh to ensure sync with backend
-      fetchComplaints();
+      setComplaints(prev => prev.map(c => (c.id === complaintId ? { ...c, replies: [...c.replies, normalizeReply(created)] } : c)));
+      // Pick up anything posted meanwhile; only the new tail of the thread is fetched
+      refreshReplies(complaintId);
     } catch (err) {
       console.error('Error adding reply:', err);
       alert('Failed to add reply');
     }
   };
 
+  // Incremental thread refresh: ask only for replies newer than the last one we hold
+  const refreshReplies = async (complaintId: number | string) => {
+    const current = complaintsRef.current.find(c => String(c.id) === String(complaintId));
+    let after = (current?.replies || []).reduce((max, r) => Math.max(max, Number(r.id) || 0), 0);
+    try {
+      const fresh: Reply[] = [];
+      let more = true;
+      while (more) {
+        const page = await api.getReplies(complaintId, after, token ?? undefined);
+        const items = (page?.items || []).map(normalizeReply);
+        fresh.push(...items);
+        more = !!page?.nextCursor;
+        if (more) after = Number(page.nextCursor);
+      }
+      if (fresh.length === 0) return;
+      setComplaints(prev => prev.map(c => {
+        if (String(c.id) !== String(complaintId)) return c;
+        // Upsert by id and keep id order (a reply we just posted may come back in the page)
+        const byId = new Map(c.replies.map(r => [String(r.id), r]));
+        fresh.forEach(r => byId.set(String(r.id), r));
+        const replies = [...byId.values()].sort((a, b) => (Number(a.id) || 0) - (Number(b.id) || 0));
+        return { ...c, replies };
+      }));
+    } catch (err) {
+      console.warn('Error refreshing replies:', err);
+    }
+  };
+
+  refreshRepliesRef.current = refreshReplies;
+
   const getOfficerWorkload = (officerEmail: string) => {
     const officerComplaints = complaints.filter(c => c.assignedTo === officerEmail);
     return {
@@ -275,6 +371,9 @@ export const ComplaintProvider: React.FC<{ children: ReactNode }> = ({ children
         assignComplaint,
         addNote,
         addReply,
+        refreshReplies,
+        liveUpdates,
+        subscribeComplaintEvents,
         getOfficerWorkload,
       }}
     >
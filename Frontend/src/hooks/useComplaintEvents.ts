@@ -0,0 +1,111 @@
+import { useEffect, useRef, useState } from 'react';
+import { API_BASE } from '../lib/api';
+
+export interface ComplaintChange {
+  id: number;
+  referenceNumber?: string;
+  type: 'SUBMITTED' | 'STATUS_CHANGED' | 'PRIORITY_CHANGED' | 'ASSIGNED' | 'ESCALATED' | 'REPLY_ADDED';
+  status?: string;
+  previousStatus?: string | null;
+  submittedBy?: string;
+  assignedTo?: string | null;
+  previousAssignee?: string | null;
+  at?: string;
+}
+
+export interface AnalyticsDelta {
+  totalComplaints: number;
+  statusBreakdown: Record<string, number>;
+  complete: boolean;
+}
+
+export interface ComplaintEvent {
+  // 'ready' is sent on every (re)connect: anything may have changed while the stream was down
+  kind: 'ready' | 'complaints';
+  changes: ComplaintChange[];
+  analytics?: AnalyticsDelta;
+}
+
+const MAX_BACKOFF = 30000; // 30 seconds
+
+/**
+ * Subscribes to /api/events/complaints (Server-Sent Events) and reconnects with backoff.
+ * Uses fetch streaming rather than EventSource so the JWT goes in the Authorization header,
+ * not the URL. Returns whether the stream is currently open.
+ */
+export function useComplaintEvents(token: string | null | undefined, onEvent: (event: ComplaintEvent) => void): boolean {
+  const [connected, setConnected] = useState(false);
+  const handlerRef = useRef(onEvent);
+  handlerRef.current = onEvent;
+
+  useEffect(() => {
+    if (!token) return;
+    const controller = new AbortController();
+    let backoff = 1000;
+    let retryTimer: ReturnType<typeof setTimeout> | null = null;
+
+    const dispatch = (name: string, data: string) => {
+      if (name !== 'ready' && name !== 'complaints') return;
+      try {
+        const payload = data ? JSON.parse(data) : {};
+        handlerRef.current({ kind: name, changes: payload.changes || [], analytics: payload.analytics });
+      } catch (err) {
+        console.warn('Bad complaint event payload:', err);
+      }
+    };
+
+    const connect = async () => {
+      try {
+        const res = await fetch(`${API_BASE}/events/complaints`, {
+          headers: { Accept: 'text/event-stream', Authorization: `Bearer ${token}` },
+          signal: controller.signal,
+        });
+        if (!res.ok || !res.body) throw new Error(`Event stream failed with status ${res.status}`);
+        setConnected(true);
+        backoff = 1000;
+
+        const reader = res.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        let eventName = 'message';
+        let data: string[] = [];
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += decoder.decode(value, { stream: true });
+          let newline;
+          while ((newline = buffer.indexOf('\n')) >= 0) {
+            const line = buffer.slice(0, newline).replace(/\r$/, '');
+            buffer = buffer.slice(newline + 1);
+            if (line === '') {
+              if (data.length) dispatch(eventName, data.join('\n'));
+              eventName = 'message';
+              data = [];
+            } else if (line.startsWith('event:')) {
+              eventName = line.slice(6).trim();
+            } else if (line.startsWith('data:')) {
+              data.push(line.slice(5).replace(/^ /, ''));
+            }
+            // ':' comment lines are heartbeats; 'id:' is not needed since 'ready' triggers a resync
+          }
+        }
+      } catch (err) {
+        if (controller.signal.aborted) return;
+        console.warn('Complaint event stream dropped:', err);
+      }
+      if (controller.signal.aborted) return;
+      setConnected(false);
+      retryTimer = setTimeout(connect, backoff);
+      backoff = Math.min(backoff * 2, MAX_BACKOFF);
+    };
+
+    connect();
+    return () => {
+      controller.abort();
+      if (retryTimer) clearTimeout(retryTimer);
+      setConnected(false);
+    };
+  }, [token]);
+
+  return connected;
+}
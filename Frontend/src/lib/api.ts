@@ -5,6 +5,34 @@ async function handleRes(res: Response) {
   try { return JSON.parse(txt); } catch { return txt; }
 }
 
+// 202 SUBMISSION_PENDING: the server timed out waiting but may still store the complaint; must not be resubmitted
+async function submissionResult(res: Response) {
+  const body = await handleRes(res);
+  if (res.status === 202) throw new Error(body?.message || 'Your complaint is still being stored. Please check your complaints before submitting again.');
+  return body;
+}
+
+// Last ETag and body per GET url; the list and detail endpoints answer If-None-Match with 304 and no body
+const etagCache = new Map<string, { etag: string; body: any }>();
+
+async function conditionalGet(url: string, token?: string) {
+  const cached = etagCache.get(url);
+  const headers: Record<string, string> = token ? { Authorization: `Bearer ${token}` } : {};
+  if (cached) headers['If-None-Match'] = cached.etag;
+  const res = await fetch(url, { headers });
+  if (res.status === 304 && cached) return { res, body: cached.body };
+  if (!res.ok) return { res, body: undefined };
+  const body = await handleRes(res);
+  const etag = res.headers.get('ETag');
+  if (etag) etagCache.set(url, { etag, body });
+  else etagCache.delete(url);
+  return { res, body };
+}
+
+function sinceParam(changedSince: string | undefined, sep: '?' | '&') {
+  return changedSince ? `${sep}changedSince=${encodeURIComponent(changedSince)}` : '';
+}
+
 export const api = {
   async login(email: string, password: string) {
     const res = await fetch(`${API_BASE}/auth/login`, {
@@ -26,6 +54,26 @@ export const api = {
     return await handleRes(res);
   },
 
+  // Exchanges a refresh token for a new access token and a rotated refresh token (the old one is spent)
+  async refresh(refreshToken: string) {
+    const res = await fetch(`${API_BASE}/auth/refresh`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken }),
+    });
+    if (!res.ok) throw new Error(await res.text());
+    return await handleRes(res);
+  },
+
+  async logout(refreshToken: string) {
+    etagCache.clear();
+    await fetch(`${API_BASE}/auth/logout`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken }),
+    });
+  },
+
   async me(token?: string) {
     const res = await fetch(`${API_BASE}/auth/me`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
     if (!res.ok) throw new Error(await res.text());
@@ -45,7 +93,7 @@ export const api = {
         headers: token ? { Authorization: `Bearer ${token}` } : {},
       });
       if (!res.ok) throw new Error(await res.text());
-      return await handleRes(res);
+      return await submissionResult(res);
     }
 
     const res = await fetch(`${API_BASE}/complaints/submit?email=${encodeURIComponent(email)}`, {
@@ -54,12 +102,18 @@ export const api = {
       body: JSON.stringify({ title: data.title, description: data.description, category: data.category, isAnonymous: data.isAnonymous, priority: data.priority }),
     });
     if (!res.ok) throw new Error(await res.text());
-    return await handleRes(res);
+    return await submissionResult(res);
   },
 
-  async getUserComplaints(email: string, token?: string) {
+  async getUserComplaints(email: string, token?: string, changedSince?: string) {
     if (!email || !email.trim()) throw new Error('email is required');
-    const res = await fetch(`${API_BASE}/complaints/user?email=${encodeURIComponent(email)}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
+    const url = `${API_BASE}/complaints/user?email=${encodeURIComponent(email)}`;
+    if (!changedSince) {
+      const { res, body } = await conditionalGet(url, token);
+      if (!res.ok && res.status !== 304) throw new Error((await res.text()) || `Request failed with status ${res.status}`);
+      return body;
+    }
+    const res = await fetch(`${url}${sinceParam(changedSince, '&')}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
     if (!res.ok) {
       const body = await res.text();
       throw new Error(body || `Request failed with status ${res.status}`);
@@ -67,8 +121,14 @@ export const api = {
     return await handleRes(res);
   },
 
-  async getAllComplaints(token?: string) {
-    const res = await fetch(`${API_BASE}/complaints`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
+  // With changedSince the response is a delta: { items, removedIds, watermark, full }
+  async getAllComplaints(token?: string, changedSince?: string) {
+    if (!changedSince) {
+      const { res, body } = await conditionalGet(`${API_BASE}/complaints`, token);
+      if (!res.ok && res.status !== 304) throw new Error(await res.text());
+      return body;
+    }
+    const res = await fetch(`${API_BASE}/complaints${sinceParam(changedSince, '?')}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
     if (!res.ok) throw new Error(await res.text());
     return await handleRes(res);
   },
@@ -147,12 +207,26 @@ export const api = {
     return await handleRes(res);
   },
 
+  async getReplies(id: number | string, after = 0, token?: string) {
+    const res = await fetch(`${API_BASE}/complaints/${id}/replies?after=${after}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
+    if (!res.ok) throw new Error(await res.text());
+    return await handleRes(res);
+  },
+
   async getComplaintById(id: number | string, token?: string) {
-    const res = await fetch(`${API_BASE}/complaints/${id}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
-    if (!res.ok) {
+    const { res, body } = await conditionalGet(`${API_BASE}/complaints/${id}`, token);
+    if (!res.ok && res.status !== 304) {
       const txt = await res.text();
       throw new Error(txt || `Request failed with status ${res.status}`);
     }
+    return body;
+  },
+
+  async getStatusHistory(id: number | string, cursor?: string, limit = 50, token?: string) {
+    const qs = new URLSearchParams({ limit: String(limit) });
+    if (cursor) qs.set('cursor', cursor);
+    const res = await fetch(`${API_BASE}/complaints/${id}/history?${qs}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
+    if (!res.ok) throw new Error(await res.text());
     return await handleRes(res);
   },
 
@@ -200,10 +274,16 @@ export const api = {
     return await handleRes(res);
   },
 
-  async getOfficerComplaints(email: string, token?: string) {
+  async getOfficerComplaints(email: string, token?: string, changedSince?: string) {
     if (!email || !email.trim()) throw new Error('email is required');
     console.log('[API] getOfficerComplaints called with email:', email);
-    const res = await fetch(`${API_BASE}/officer/complaints?email=${encodeURIComponent(email)}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
+    const url = `${API_BASE}/officer/complaints?email=${encodeURIComponent(email)}`;
+    if (!changedSince) {
+      const { res, body } = await conditionalGet(url, token);
+      if (!res.ok && res.status !== 304) throw new Error((await res.text()) || `Request failed with status ${res.status}`);
+      return body;
+    }
+    const res = await fetch(`${url}${sinceParam(changedSince, '&')}`, { headers: token ? { Authorization: `Bearer ${token}` } : {} });
     if (!res.ok) {
       const body = await res.text();
       throw new Error(body || `Request failed with status ${res.status}`);
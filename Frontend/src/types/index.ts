@@ -94,7 +94,6 @@ export interface Complaint {
 
   notes: Note[];
   replies: Reply[];
-  statusHistory?: StatusHistory[];
   feedback?: Feedback;
 }
 